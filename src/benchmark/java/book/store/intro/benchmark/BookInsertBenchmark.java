@@ -0,0 +1,81 @@
+package book.store.intro.benchmark;
+
+import book.store.intro.IntroApplication;
+import book.store.intro.model.Book;
+import book.store.intro.repository.book.BookRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookInsertBenchmark {
+    private static final String[] SPRING_ARGS = {
+            "--spring.main.banner-mode=off",
+            "--server.port=0",
+            "--spring.docker.compose.enabled=false",
+            "--spring.jpa.properties.hibernate.generate_statistics=false",
+            "--book.search.index.enabled=false",
+            "--logging.level.root=WARN"
+    };
+
+    @Param({"100", "1000"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private BookRepository bookRepository;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private int nextNumber;
+
+    @Setup
+    public void setUp() {
+        context = SpringApplication.run(IntroApplication.class, SPRING_ARGS);
+        bookRepository = context.getBean(BookRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearBooks() {
+        jdbcTemplate.update("DELETE FROM books");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Book> insertBooks() {
+        List<Book> books = CatalogFixtures.books(batchSize, List.of());
+        List<Book> newBooks = new ArrayList<>(books.size());
+        for (Book book : books) {
+            book.setId(null);
+            book.setIsbn(CatalogFixtures.isbn(nextNumber++));
+            newBooks.add(book);
+        }
+        return transactionTemplate.execute(status -> bookRepository.saveAll(newBooks));
+    }
+}
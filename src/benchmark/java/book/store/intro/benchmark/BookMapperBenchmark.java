@@ -0,0 +1,49 @@
+package book.store.intro.benchmark;
+
+import book.store.intro.dto.book.BookDto;
+import book.store.intro.mapper.BookMapper;
+import book.store.intro.mapper.CategoryReferenceMapper;
+import book.store.intro.mapper.impl.BookMapperImpl;
+import book.store.intro.model.Book;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookMapperBenchmark {
+    private static final int CATEGORY_COUNT = 20;
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private BookMapper bookMapper;
+    private List<Book> page;
+
+    @Setup
+    public void setUp() {
+        bookMapper = new BookMapperImpl(new CategoryReferenceMapper(null));
+        page = CatalogFixtures.books(pageSize, CatalogFixtures.categories(CATEGORY_COUNT));
+    }
+
+    @Benchmark
+    public List<BookDto> toDtoPage() {
+        return page.stream()
+                .map(bookMapper::toDto)
+                .toList();
+    }
+}
@@ -0,0 +1,58 @@
+package book.store.intro.benchmark;
+
+import book.store.intro.dto.book.BookSearchParameters;
+import book.store.intro.model.Book;
+import book.store.intro.repository.book.BookSpecificationBuilder;
+import book.store.intro.repository.book.BookSpecificationProviderManager;
+import book.store.intro.repository.book.spec.AuthorSpecificationProvider;
+import book.store.intro.repository.book.spec.IsbnSpecificationProvider;
+import book.store.intro.repository.book.spec.PriceSpecificationProvider;
+import book.store.intro.repository.book.spec.TitleSpecificationProvider;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookSpecificationBuilderBenchmark {
+    private BookSpecificationBuilder bookSpecificationBuilder;
+    private BookSearchParameters allParameters;
+    private BookSearchParameters priceOnlyParameters;
+
+    @Setup
+    public void setUp() {
+        BookSpecificationProviderManager providerManager = new BookSpecificationProviderManager(
+                List.of(new TitleSpecificationProvider(), new AuthorSpecificationProvider(),
+                        new IsbnSpecificationProvider(), new PriceSpecificationProvider()));
+        bookSpecificationBuilder = new BookSpecificationBuilder(providerManager);
+        allParameters = new BookSearchParameters("Title", "Author", CatalogFixtures.isbn(1),
+                BigDecimal.TEN, BigDecimal.valueOf(100), null);
+        priceOnlyParameters = new BookSearchParameters(null, null, null,
+                BigDecimal.TEN, BigDecimal.valueOf(100), null);
+    }
+
+    @Benchmark
+    public Specification<Book> buildAllParameters() {
+        return bookSpecificationBuilder.build(allParameters);
+    }
+
+    @Benchmark
+    public Specification<Book> buildPriceOnly() {
+        return bookSpecificationBuilder.build(priceOnlyParameters);
+    }
+}
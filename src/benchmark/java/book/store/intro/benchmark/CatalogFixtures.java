@@ -0,0 +1,54 @@
+package book.store.intro.benchmark;
+
+import book.store.intro.model.Book;
+import book.store.intro.model.Category;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+public final class CatalogFixtures {
+    public static final int CATEGORIES_PER_BOOK = 3;
+
+    private CatalogFixtures() {
+    }
+
+    public static List<Category> categories(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(CatalogFixtures::category)
+                .toList();
+    }
+
+    public static List<Book> books(int count, List<Category> categories) {
+        List<Book> books = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Book book = new Book();
+            book.setId((long) i);
+            book.setTitle("Title " + i);
+            book.setAuthor("Author " + i % 97);
+            book.setIsbn(isbn(i));
+            book.setPrice(BigDecimal.valueOf(10 + i % 90, 0).add(BigDecimal.valueOf(99, 2)));
+            book.setDescription("Description of book " + i);
+            Set<Category> bookCategories = new HashSet<>();
+            for (int j = 0; j < CATEGORIES_PER_BOOK && !categories.isEmpty(); j++) {
+                bookCategories.add(categories.get((i + j) % categories.size()));
+            }
+            book.setCategories(bookCategories);
+            books.add(book);
+        }
+        return books;
+    }
+
+    public static String isbn(int number) {
+        return String.format("978-0-%06d-%02d-0", number / 100, number % 100);
+    }
+
+    private static Category category(int id) {
+        Category category = new Category();
+        category.setId((long) id);
+        category.setName("Category " + id);
+        return category;
+    }
+}
@@ -0,0 +1,193 @@
+package book.store.intro.benchmark;
+
+import book.store.intro.IntroApplication;
+import book.store.intro.dto.book.BookDto;
+import book.store.intro.dto.book.BookWithoutCategoriesDto;
+import book.store.intro.mapper.BookMapper;
+import book.store.intro.model.Book;
+import book.store.intro.repository.book.BookCategoryId;
+import book.store.intro.repository.book.BookRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CatalogHydrationBenchmark {
+    private static final int CATALOG_SIZE = 2000;
+    private static final int CATEGORY_COUNT = 10;
+    private static final long CATEGORY_ID = 3L;
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGES = 8;
+    private static final int CATEGORY_WINDOW =
+            PAGE_SIZE * CATEGORY_COUNT / CatalogFixtures.CATEGORIES_PER_BOOK;
+    private static final String BOOKS = "SELECT b FROM Book b WHERE b.id IN :ids";
+    private static final String BOOK_DTOS = "SELECT new book.store.intro.dto.book.BookDto("
+            + "b.id, b.title, b.author, b.isbn, b.price, b.description, b.coverImage) "
+            + "FROM Book b WHERE b.id IN :ids";
+    private static final String CATEGORY_BOOKS = "SELECT b FROM Book b JOIN b.categories c "
+            + "WHERE c.id = :categoryId AND b.id IN :ids";
+    private static final String CATEGORY_BOOK_DTOS = "SELECT new "
+            + "book.store.intro.dto.book.BookWithoutCategoriesDto(b.id, b.title, b.author, "
+            + "b.isbn, b.price, b.description, b.coverImage) "
+            + "FROM Book b JOIN b.categories c WHERE c.id = :categoryId AND b.id IN :ids";
+    private static final String[] SPRING_ARGS = {
+            "--spring.main.banner-mode=off",
+            "--server.port=0",
+            "--spring.docker.compose.enabled=false",
+            "--spring.jpa.properties.hibernate.generate_statistics=false",
+            "--logging.level.root=WARN"
+    };
+
+    @Param({"entity", "projection"})
+    private String hydration;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private BookRepository bookRepository;
+    private BookMapper bookMapper;
+    private TransactionTemplate transactionTemplate;
+    private List<List<Long>> bookIds;
+    private List<List<Long>> categoryBookIds;
+    private int page;
+
+    @Setup
+    public void setUp() {
+        context = SpringApplication.run(IntroApplication.class, SPRING_ARGS);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        seed(jdbcTemplate);
+        jdbcTemplate.execute("ANALYZE");
+        entityManager = context.getBean(EntityManager.class);
+        bookRepository = context.getBean(BookRepository.class);
+        bookMapper = context.getBean(BookMapper.class);
+        transactionTemplate = new TransactionTemplate(
+                context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+        bookIds = new ArrayList<>();
+        categoryBookIds = new ArrayList<>();
+        for (int i = 0; i < PAGES; i++) {
+            bookIds.add(LongStream.rangeClosed(i * PAGE_SIZE + 1, (i + 1) * PAGE_SIZE)
+                    .boxed()
+                    .toList());
+            categoryBookIds.add(LongStream.rangeClosed(
+                            i * CATEGORY_WINDOW + 1, (i + 1) * CATEGORY_WINDOW)
+                    .boxed()
+                    .toList());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookDto> booksPage() {
+        List<Long> ids = bookIds.get(nextPage());
+        return transactionTemplate.execute(status -> "entity".equals(hydration)
+                ? bookEntities(ids)
+                : bookProjections(ids));
+    }
+
+    @Benchmark
+    public List<BookWithoutCategoriesDto> categoryBooksPage() {
+        List<Long> ids = categoryBookIds.get(nextPage());
+        return transactionTemplate.execute(status -> "entity".equals(hydration)
+                ? entityManager.createQuery(CATEGORY_BOOKS, Book.class)
+                        .setParameter("categoryId", CATEGORY_ID)
+                        .setParameter("ids", ids)
+                        .getResultStream()
+                        .map(bookMapper::toBookWithoutCategoriesDto)
+                        .toList()
+                : entityManager.createQuery(CATEGORY_BOOK_DTOS, BookWithoutCategoriesDto.class)
+                        .setParameter("categoryId", CATEGORY_ID)
+                        .setParameter("ids", ids)
+                        .getResultList());
+    }
+
+    private List<BookDto> bookEntities(List<Long> ids) {
+        List<Book> books = entityManager.createQuery(BOOKS, Book.class)
+                .setParameter("ids", ids)
+                .getResultList();
+        Map<Long, Book> booksWithCategories = bookRepository.findAllWithCategoriesByIdIn(
+                        books.stream().map(Book::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        return books.stream()
+                .map(book -> bookMapper.toDto(booksWithCategories.get(book.getId())))
+                .toList();
+    }
+
+    private List<BookDto> bookProjections(List<Long> ids) {
+        List<BookDto> books = entityManager.createQuery(BOOK_DTOS, BookDto.class)
+                .setParameter("ids", ids)
+                .getResultList();
+        Map<Long, List<Long>> categoryIds = bookRepository.findCategoryIdsByBookIdIn(
+                        books.stream().map(BookDto::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(BookCategoryId::bookId,
+                        Collectors.mapping(BookCategoryId::categoryId, Collectors.toList())));
+        books.forEach(book -> book.setCategoryIds(
+                categoryIds.getOrDefault(book.getId(), List.of())));
+        return books;
+    }
+
+    private int nextPage() {
+        page = (page + 1) % PAGES;
+        return page;
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> categories = new ArrayList<>();
+        for (int i = 1; i <= CATEGORY_COUNT; i++) {
+            categories.add(new Object[]{i, "Category " + i});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO categories (id, name, is_deleted) VALUES (?, ?, false)",
+                categories);
+
+        List<Object[]> books = new ArrayList<>();
+        List<Object[]> bookCategories = new ArrayList<>();
+        for (int i = 1; i <= CATALOG_SIZE; i++) {
+            books.add(new Object[]{i, "Title " + i, "Author " + i % 97,
+                    CatalogFixtures.isbn(i), BigDecimal.valueOf(1000 + i % 9000, 2),
+                    "Description of book " + i});
+            for (int j = 0; j < CatalogFixtures.CATEGORIES_PER_BOOK; j++) {
+                bookCategories.add(new Object[]{i, 1 + (i + j) % CATEGORY_COUNT});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO books "
+                + "(id, title, author, isbn, price, description, is_deleted) "
+                + "VALUES (?, ?, ?, ?, ?, ?, false)", books);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO books_categories (book_id, category_id) VALUES (?, ?)",
+                bookCategories);
+    }
+}
@@ -0,0 +1,129 @@
+package book.store.intro.benchmark;
+
+import book.store.intro.IntroApplication;
+import book.store.intro.dto.book.BookDto;
+import book.store.intro.dto.book.BookWithoutCategoriesDto;
+import book.store.intro.service.book.BookService;
+import book.store.intro.service.category.CategoryService;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CatalogPageBenchmark {
+    private static final int CATEGORY_COUNT = 10;
+    private static final long CATEGORY_ID = 3L;
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGES = 50;
+    private static final String[] SPRING_ARGS = {
+            "--spring.main.banner-mode=off",
+            "--server.port=0",
+            "--spring.docker.compose.enabled=false",
+            "--spring.jpa.properties.hibernate.generate_statistics=false",
+            "--book.count.ttl=30s",
+            "--logging.level.root=WARN"
+    };
+
+    @Param({"true", "false"})
+    private boolean readOnly;
+
+    private ConfigurableApplicationContext context;
+    private BookService bookService;
+    private CategoryService categoryService;
+    private TransactionTemplate transactionTemplate;
+    private Pageable[] pages;
+    private int page;
+
+    @Setup
+    public void setUp() {
+        context = SpringApplication.run(IntroApplication.class, SPRING_ARGS);
+        seed(context.getBean(JdbcTemplate.class));
+        bookService = context.getBean(BookService.class);
+        categoryService = context.getBean(CategoryService.class);
+        transactionTemplate = new TransactionTemplate(
+                context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(readOnly);
+        pages = new Pageable[PAGES];
+        for (int i = 0; i < PAGES; i++) {
+            pages[i] = PageRequest.of(i, PAGE_SIZE, Sort.by("id"));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<BookDto> booksPage() {
+        Pageable pageable = nextPage();
+        return transactionTemplate.execute(status -> bookService.getAll(pageable));
+    }
+
+    @Benchmark
+    public Page<BookWithoutCategoriesDto> categoryBooksPage() {
+        Pageable pageable = nextPage();
+        return transactionTemplate.execute(
+                status -> categoryService.getBooksByCategoryId(pageable, CATEGORY_ID));
+    }
+
+    private Pageable nextPage() {
+        page = (page + 1) % PAGES;
+        return pages[page];
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> categories = new ArrayList<>();
+        for (int i = 1; i <= CATEGORY_COUNT; i++) {
+            categories.add(new Object[]{i, "Category " + i});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO categories (id, name, is_deleted) VALUES (?, ?, false)",
+                categories);
+
+        int catalogSize = CATEGORY_COUNT * PAGE_SIZE * PAGES;
+        List<Object[]> books = new ArrayList<>();
+        List<Object[]> bookCategories = new ArrayList<>();
+        for (int i = 1; i <= catalogSize; i++) {
+            books.add(new Object[]{i, "Title " + i, "Author " + i % 97,
+                    CatalogFixtures.isbn(i), BigDecimal.valueOf(1000 + i % 9000, 2),
+                    "Description of book " + i});
+            for (int j = 0; j < CatalogFixtures.CATEGORIES_PER_BOOK; j++) {
+                bookCategories.add(new Object[]{i, 1 + (i + j) % CATEGORY_COUNT});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO books "
+                + "(id, title, author, isbn, price, description, is_deleted) "
+                + "VALUES (?, ?, ?, ?, ?, ?, false)", books);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO books_categories (book_id, category_id) VALUES (?, ?)",
+                bookCategories);
+    }
+}
@@ -0,0 +1,152 @@
+package book.store.intro.benchmark;
+
+import book.store.intro.IntroApplication;
+import book.store.intro.controller.BookController;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConditionalGetBenchmark {
+    private static final int CATEGORY_COUNT = 10;
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGES = 50;
+    private static final String[] SPRING_ARGS = {
+            "--spring.main.banner-mode=off",
+            "--server.port=0",
+            "--spring.docker.compose.enabled=false",
+            "--spring.jpa.properties.hibernate.generate_statistics=false",
+            "--book.count.ttl=30s",
+            "--logging.level.root=WARN"
+    };
+
+    @Param({"false", "true"})
+    private boolean revalidate;
+
+    private ConfigurableApplicationContext context;
+    private BookController bookController;
+    private ObjectMapper objectMapper;
+    private Pageable[] pages;
+    private String[] bookTags;
+    private String[] pageTags;
+    private int page;
+
+    @Setup
+    public void setUp() {
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user", null,
+                        AuthorityUtils.createAuthorityList("USER")));
+        context = SpringApplication.run(IntroApplication.class, SPRING_ARGS);
+        seed(context.getBean(JdbcTemplate.class));
+        bookController = context.getBean(BookController.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        pages = new Pageable[PAGES];
+        bookTags = new String[PAGES];
+        pageTags = new String[PAGES];
+        for (int i = 0; i < PAGES; i++) {
+            pages[i] = PageRequest.of(i, PAGE_SIZE, Sort.by("id"));
+            bookTags[i] = bookController.getBookById(bookId(i), null)
+                    .getHeaders().getETag();
+            pageTags[i] = bookController.getAllBooks(pages[i], null)
+                    .getHeaders().getETag();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public int bookById() throws JsonProcessingException {
+        int current = nextPage();
+        return write(bookController.getBookById(bookId(current), ifNoneMatch(bookTags[current])));
+    }
+
+    @Benchmark
+    public int booksPage() throws JsonProcessingException {
+        int current = nextPage();
+        return write(bookController.getAllBooks(pages[current], ifNoneMatch(pageTags[current])));
+    }
+
+    private String ifNoneMatch(String tag) {
+        return revalidate ? tag : null;
+    }
+
+    private int write(ResponseEntity<?> response) throws JsonProcessingException {
+        int length = response.getHeaders().getFirst(HttpHeaders.ETAG).length();
+        return response.hasBody()
+                ? length + objectMapper.writeValueAsBytes(response.getBody()).length
+                : length;
+    }
+
+    private int nextPage() {
+        page = (page + 1) % PAGES;
+        return page;
+    }
+
+    private static Long bookId(int index) {
+        return (long) index * PAGE_SIZE + 1;
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> categories = new ArrayList<>();
+        for (int i = 1; i <= CATEGORY_COUNT; i++) {
+            categories.add(new Object[]{i, "Category " + i});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO categories (id, name, is_deleted) VALUES (?, ?, false)",
+                categories);
+
+        int catalogSize = PAGE_SIZE * PAGES;
+        List<Object[]> books = new ArrayList<>();
+        List<Object[]> bookCategories = new ArrayList<>();
+        for (int i = 1; i <= catalogSize; i++) {
+            books.add(new Object[]{i, "Title " + i, "Author " + i % 97,
+                    CatalogFixtures.isbn(i), BigDecimal.valueOf(1000 + i % 9000, 2),
+                    "Description of book " + i});
+            for (int j = 0; j < CatalogFixtures.CATEGORIES_PER_BOOK; j++) {
+                bookCategories.add(new Object[]{i, 1 + (i + j) % CATEGORY_COUNT});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO books "
+                + "(id, title, author, isbn, price, description, is_deleted) "
+                + "VALUES (?, ?, ?, ?, ?, ?, false)", books);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO books_categories (book_id, category_id) VALUES (?, ?)",
+                bookCategories);
+    }
+}
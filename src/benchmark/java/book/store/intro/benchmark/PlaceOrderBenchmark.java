@@ -0,0 +1,118 @@
+package book.store.intro.benchmark;
+
+import book.store.intro.IntroApplication;
+import book.store.intro.dto.order.CreateOrderRequestDto;
+import book.store.intro.dto.order.OrderDto;
+import book.store.intro.model.User;
+import book.store.intro.repository.user.UserRepository;
+import book.store.intro.service.order.OrderService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlaceOrderBenchmark {
+    private static final long USER_ID = 1000L;
+    private static final int CATEGORY_COUNT = 10;
+    private static final String[] SPRING_ARGS = {
+            "--spring.main.banner-mode=off",
+            "--server.port=0",
+            "--spring.docker.compose.enabled=false",
+            "--spring.jpa.properties.hibernate.generate_statistics=false",
+            "--logging.level.root=WARN"
+    };
+
+    @Param({"1000", "10000"})
+    private int catalogSize;
+
+    @Param({"5"})
+    private int cartSize;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private User user;
+    private CreateOrderRequestDto requestDto;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup
+    public void setUp() {
+        context = SpringApplication.run(IntroApplication.class, SPRING_ARGS);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        seed();
+        orderService = context.getBean(OrderService.class);
+        user = context.getBean(UserRepository.class).findById(USER_ID).orElseThrow();
+        requestDto = new CreateOrderRequestDto("Benchmark street 1");
+    }
+
+    @Setup(Level.Invocation)
+    public void fillCart() {
+        List<Object[]> cartItems = new ArrayList<>();
+        for (int i = 1; i <= cartSize; i++) {
+            cartItems.add(new Object[]{USER_ID, 1 + (long) i * catalogSize / (cartSize + 1)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO cart_items (shopping_cart_id, book_id, quantity) "
+                + "VALUES (?, ?, 1)", cartItems);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderDto placeOrder() {
+        return orderService.placeOrder(requestDto, user);
+    }
+
+    private void seed() {
+        List<Object[]> categories = new ArrayList<>();
+        for (int i = 1; i <= CATEGORY_COUNT; i++) {
+            categories.add(new Object[]{i, "Category " + i});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO categories (id, name, is_deleted) VALUES (?, ?, false)",
+                categories);
+
+        List<Object[]> books = new ArrayList<>();
+        List<Object[]> bookCategories = new ArrayList<>();
+        for (int i = 1; i <= catalogSize; i++) {
+            books.add(new Object[]{i, "Title " + i, "Author " + i % 97,
+                    CatalogFixtures.isbn(i), 10 + i % 90});
+            bookCategories.add(new Object[]{i, 1 + i % CATEGORY_COUNT});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO books (id, title, author, isbn, price, is_deleted) "
+                + "VALUES (?, ?, ?, ?, ?, false)", books);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO books_categories (book_id, category_id) VALUES (?, ?)",
+                bookCategories);
+
+        jdbcTemplate.update("INSERT INTO users (id, email, password, first_name, last_name, "
+                + "is_deleted) VALUES (?, 'benchmark@example.com', 'password', 'Bench', "
+                + "'Mark', false)", USER_ID);
+        jdbcTemplate.update("INSERT INTO users_roles (user_id, role_id) "
+                + "VALUES (?, (SELECT id FROM roles WHERE role = 'USER'))", USER_ID);
+        jdbcTemplate.update("INSERT INTO shopping_carts (id, is_deleted) VALUES (?, false)",
+                USER_ID);
+    }
+}
@@ -0,0 +1,128 @@
+package book.store.intro.benchmark;
+
+import book.store.intro.IntroApplication;
+import book.store.intro.dto.book.BookDto;
+import book.store.intro.dto.book.BookSearchParameters;
+import book.store.intro.service.book.BookService;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceSearchBenchmark {
+    private static final int CATEGORY_COUNT = 10;
+    private static final long CATEGORY_ID = 3L;
+    private static final int PRICE_WINDOWS = 64;
+    private static final BigDecimal WINDOW_WIDTH = new BigDecimal("0.50");
+    private static final String[] SPRING_ARGS = {
+            "--spring.main.banner-mode=off",
+            "--server.port=0",
+            "--spring.docker.compose.enabled=false",
+            "--spring.jpa.properties.hibernate.generate_statistics=false",
+            "--logging.level.root=WARN"
+    };
+
+    @Param({"50000"})
+    private int catalogSize;
+
+    @Param({"true", "false"})
+    private boolean priceIndex;
+
+    private ConfigurableApplicationContext context;
+    private BookService bookService;
+    private BookSearchParameters[] priceRanges;
+    private BookSearchParameters[] priceRangesInCategory;
+    private Pageable pageable;
+    private int window;
+
+    @Setup
+    public void setUp() {
+        context = SpringApplication.run(IntroApplication.class, SPRING_ARGS);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        seed(jdbcTemplate);
+        if (!priceIndex) {
+            jdbcTemplate.execute("DROP INDEX idx_books_is_deleted_price");
+        }
+        jdbcTemplate.execute("ANALYZE");
+        bookService = context.getBean(BookService.class);
+        priceRanges = new BookSearchParameters[PRICE_WINDOWS];
+        priceRangesInCategory = new BookSearchParameters[PRICE_WINDOWS];
+        for (int i = 0; i < PRICE_WINDOWS; i++) {
+            BigDecimal bottomPrice = BigDecimal.valueOf(1000 + i * 137L, 2);
+            BigDecimal upperPrice = bottomPrice.add(WINDOW_WIDTH);
+            priceRanges[i] = new BookSearchParameters(null, null, null,
+                    bottomPrice, upperPrice, null);
+            priceRangesInCategory[i] = new BookSearchParameters(null, null, null,
+                    bottomPrice, upperPrice, CATEGORY_ID);
+        }
+        pageable = PageRequest.of(0, 20, Sort.by("id"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<BookDto> searchByPriceRange() {
+        return bookService.search(priceRanges[nextWindow()], pageable);
+    }
+
+    @Benchmark
+    public Page<BookDto> searchByPriceRangeInCategory() {
+        return bookService.search(priceRangesInCategory[nextWindow()], pageable);
+    }
+
+    private int nextWindow() {
+        window = (window + 1) % PRICE_WINDOWS;
+        return window;
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> categories = new ArrayList<>();
+        for (int i = 1; i <= CATEGORY_COUNT; i++) {
+            categories.add(new Object[]{i, "Category " + i});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO categories (id, name, is_deleted) VALUES (?, ?, false)",
+                categories);
+
+        List<Object[]> books = new ArrayList<>();
+        List<Object[]> bookCategories = new ArrayList<>();
+        for (int i = 1; i <= catalogSize; i++) {
+            books.add(new Object[]{i, "Title " + i, "Author " + i % 97,
+                    CatalogFixtures.isbn(i), BigDecimal.valueOf(1000 + i * 7919L % 9000, 2)});
+            bookCategories.add(new Object[]{i, 1 + i % CATEGORY_COUNT});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO books (id, title, author, isbn, price, is_deleted) "
+                + "VALUES (?, ?, ?, ?, ?, false)", books);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO books_categories (book_id, category_id) VALUES (?, ?)",
+                bookCategories);
+    }
+}
@@ -0,0 +1,63 @@
+package book.store.intro.benchmark;
+
+import book.store.intro.dto.shopping.cart.ShoppingCartDto;
+import book.store.intro.mapper.ShoppingCartMapper;
+import book.store.intro.mapper.impl.CartItemsMapperImpl;
+import book.store.intro.mapper.impl.ShoppingCartMapperImpl;
+import book.store.intro.model.Book;
+import book.store.intro.model.CartItem;
+import book.store.intro.model.ShoppingCart;
+import book.store.intro.model.User;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShoppingCartMapperBenchmark {
+    @Param({"1", "20", "100"})
+    private int cartSize;
+
+    private ShoppingCartMapper shoppingCartMapper;
+    private ShoppingCart shoppingCart;
+
+    @Setup
+    public void setUp() {
+        shoppingCartMapper = new ShoppingCartMapperImpl(new CartItemsMapperImpl());
+        User user = new User();
+        user.setId(1L);
+        shoppingCart = new ShoppingCart();
+        shoppingCart.setId(user.getId());
+        shoppingCart.setUser(user);
+        shoppingCart.setCartItems(new HashSet<>());
+        List<Book> books = CatalogFixtures.books(cartSize, List.of());
+        for (Book book : books) {
+            CartItem cartItem = new CartItem();
+            cartItem.setId(book.getId());
+            cartItem.setShoppingCart(shoppingCart);
+            cartItem.setBook(book);
+            cartItem.setQuantity(1);
+            shoppingCart.getCartItems().add(cartItem);
+        }
+    }
+
+    @Benchmark
+    public ShoppingCartDto toDto() {
+        return shoppingCartMapper.toDto(shoppingCart);
+    }
+}
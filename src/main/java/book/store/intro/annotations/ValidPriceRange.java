@@ -0,0 +1,17 @@
+package book.store.intro.annotations;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = ValidPriceRangeValidator.class)
+public @interface ValidPriceRange {
+    String message() default "Bottom price must not be greater than upper price";
+    Class<?>[] groups() default {};
+    Class<? extends Payload>[] payload() default {};
+}
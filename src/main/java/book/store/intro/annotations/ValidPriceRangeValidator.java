@@ -0,0 +1,16 @@
+package book.store.intro.annotations;
+
+import book.store.intro.dto.book.BookSearchParameters;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class ValidPriceRangeValidator
+        implements ConstraintValidator<ValidPriceRange, BookSearchParameters> {
+    @Override
+    public boolean isValid(BookSearchParameters value, ConstraintValidatorContext context) {
+        return value == null
+                || value.bottomPrice() == null
+                || value.upperPrice() == null
+                || value.bottomPrice().compareTo(value.upperPrice()) <= 0;
+    }
+}
@@ -0,0 +1,18 @@
+package book.store.intro.cache;
+
+public record CacheInvalidation(
+        String cacheName,
+        Long key
+) {
+    public static CacheInvalidation evict(String cacheName, Long key) {
+        return new CacheInvalidation(cacheName, key);
+    }
+
+    public static CacheInvalidation clear(String cacheName) {
+        return new CacheInvalidation(cacheName, null);
+    }
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
@@ -0,0 +1,5 @@
+package book.store.intro.cache;
+
+public interface CacheInvalidationBus {
+    void publish(CacheInvalidation... invalidations);
+}
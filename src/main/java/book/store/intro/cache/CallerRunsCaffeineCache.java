@@ -0,0 +1,23 @@
+package book.store.intro.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import java.util.concurrent.Callable;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+public class CallerRunsCaffeineCache extends CaffeineCache {
+    public CallerRunsCaffeineCache(String name, AsyncCache<Object, Object> cache) {
+        super(name, cache, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) fromStoreValue(CacheLoading.get(getAsyncCache(), key, () -> {
+            try {
+                return toStoreValue(valueLoader.call());
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        }));
+    }
+}
@@ -0,0 +1,24 @@
+package book.store.intro.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class LocalCacheInvalidator {
+    private final CacheManager cacheManager;
+
+    public void apply(CacheInvalidation invalidation) {
+        Cache cache = cacheManager.getCache(invalidation.cacheName());
+        if (cache == null) {
+            return;
+        }
+        if (invalidation.isClear()) {
+            cache.clear();
+        } else {
+            cache.evict(invalidation.key());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package book.store.intro.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "none")
+@Component
+public class NoOpCacheInvalidationBus implements CacheInvalidationBus {
+    @Override
+    public void publish(CacheInvalidation... invalidations) {
+    }
+}
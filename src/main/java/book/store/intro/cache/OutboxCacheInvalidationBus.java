@@ -0,0 +1,121 @@
+package book.store.intro.cache;
+
+import book.store.intro.model.CacheInvalidationEvent;
+import book.store.intro.repository.cache.CacheInvalidationEventRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "outbox",
+        matchIfMissing = true)
+@Component
+public class OutboxCacheInvalidationBus implements CacheInvalidationBus {
+    private final CacheInvalidationEventRepository eventRepository;
+    private final LocalCacheInvalidator localCacheInvalidator;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final int batchSize;
+    private final long gapTolerance;
+    private final Duration retention;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final NavigableSet<Long> appliedIds = new ConcurrentSkipListSet<>();
+    private final Lock pollLock = new ReentrantLock();
+    private volatile Long watermark;
+
+    public OutboxCacheInvalidationBus(
+            CacheInvalidationEventRepository eventRepository,
+            LocalCacheInvalidator localCacheInvalidator,
+            ApplicationEventPublisher applicationEventPublisher,
+            @Value("${cache.invalidation.outbox.batch-size}") int batchSize,
+            @Value("${cache.invalidation.outbox.gap-tolerance}") long gapTolerance,
+            @Value("${cache.invalidation.outbox.retention}") Duration retention) {
+        this.eventRepository = eventRepository;
+        this.localCacheInvalidator = localCacheInvalidator;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.batchSize = batchSize;
+        this.gapTolerance = gapTolerance;
+        this.retention = retention;
+    }
+
+    @Override
+    public void publish(CacheInvalidation... invalidations) {
+        eventRepository.saveAll(Arrays.stream(invalidations)
+                .map(this::toEvent)
+                .toList());
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        watermark = eventRepository.findMaxId();
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.outbox.poll-interval}")
+    public void poll() {
+        pollLock.lock();
+        try {
+            pollEvents();
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    private void pollEvents() {
+        if (watermark == null) {
+            return;
+        }
+        long lastReadId = Math.max(0, watermark - gapTolerance);
+        List<CacheInvalidationEvent> events;
+        do {
+            events = eventRepository.findAllByIdGreaterThanOrderByIdAsc(
+                    lastReadId, Limit.of(batchSize));
+            for (CacheInvalidationEvent event : events) {
+                if (appliedIds.add(event.getId())) {
+                    apply(event);
+                }
+                lastReadId = event.getId();
+            }
+        } while (events.size() == batchSize);
+        watermark = Math.max(watermark, lastReadId);
+        appliedIds.headSet(watermark - gapTolerance, true).clear();
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.outbox.cleanup-interval}")
+    public void purgeExpiredEvents() {
+        eventRepository.deleteAllCreatedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    private void apply(CacheInvalidationEvent event) {
+        if (nodeId.equals(event.getOriginNode())) {
+            return;
+        }
+        CacheInvalidation invalidation =
+                new CacheInvalidation(event.getCacheName(), event.getCacheKey());
+        localCacheInvalidator.apply(invalidation);
+        applicationEventPublisher.publishEvent(invalidation);
+    }
+
+    private CacheInvalidationEvent toEvent(CacheInvalidation invalidation) {
+        CacheInvalidationEvent event = new CacheInvalidationEvent();
+        event.setCacheName(invalidation.cacheName());
+        event.setCacheKey(invalidation.key());
+        event.setOriginNode(nodeId);
+        return event;
+    }
+}
@@ -0,0 +1,40 @@
+package book.store.intro.config;
+
+import book.store.intro.cache.CallerRunsCaffeineCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@EnableCaching
+@Configuration
+public class CacheConfig {
+    public static final String BOOKS = "books";
+    public static final String CATEGORIES = "categories";
+    public static final String CATEGORY_PAGES = "categoryPages";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${catalog.cache.books.spec}") String booksSpec,
+            @Value("${catalog.cache.categories.spec}") String categoriesSpec,
+            @Value("${catalog.cache.category-pages.spec}") String categoryPagesSpec) {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                caffeineCache(BOOKS, booksSpec),
+                caffeineCache(CATEGORIES, categoriesSpec),
+                caffeineCache(CATEGORY_PAGES, categoryPagesSpec)
+        ));
+        cacheManager.initializeCaches();
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private CaffeineCache caffeineCache(String name, String spec) {
+        return new CallerRunsCaffeineCache(name, Caffeine.from(spec).recordStats().buildAsync());
+    }
+}
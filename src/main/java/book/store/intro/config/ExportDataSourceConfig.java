@@ -0,0 +1,29 @@
+package book.store.intro.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@ConditionalOnProperty(prefix = "datasource.export", name = "url")
+@Configuration
+public class ExportDataSourceConfig {
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("datasource.export.hikari")
+    public HikariDataSource exportDataSource(
+            @Value("${datasource.export.url}") String url,
+            @Value("${datasource.export.username:${spring.datasource.username}}")
+            String username,
+            @Value("${datasource.export.password:${spring.datasource.password}}")
+            String password) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+}
@@ -2,22 +2,41 @@ package book.store.intro.controller;
 
 import static book.store.intro.repository.book.BookSpecificationBuilder.AUTHOR;
 import static book.store.intro.repository.book.BookSpecificationBuilder.TITLE;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 
 import book.store.intro.dto.book.BookDto;
 import book.store.intro.dto.book.BookSearchParameters;
 import book.store.intro.dto.book.CreateBookRequestDto;
+import book.store.intro.dto.book.imports.BookImportEvent;
+import book.store.intro.dto.pagination.CursorPageDto;
+import book.store.intro.model.PageResponse;
 import book.store.intro.service.book.BookService;
+import book.store.intro.service.book.exports.BookExportService;
+import book.store.intro.service.book.exports.CsvBookExportWriter;
+import book.store.intro.service.book.exports.NdjsonBookExportWriter;
+import book.store.intro.service.book.imports.BookImportFormat;
+import book.store.intro.service.book.imports.BookImportService;
+import book.store.intro.service.catalog.CatalogGenerationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,7 +44,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -35,7 +56,16 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/books")
 public class BookController {
+    private static final String CURSOR = "cursor";
+    private static final String DEFAULT_CURSOR_PAGE_SIZE = "10";
+    private static final String WITHOUT_TOTAL = "withTotal=false";
+    private static final String TEXT_CSV = "text/csv";
+
     private final BookService bookService;
+    private final BookImportService bookImportService;
+    private final BookExportService bookExportService;
+    private final ObjectMapper objectMapper;
+    private final CatalogGenerationService catalogGenerationService;
 
     @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
     @GetMapping
@@ -44,9 +74,43 @@ public class BookController {
             description = "Get a paginated list of all available books in the library "
                     + "(Required roles: USER, ADMIN)"
     )
-    public Page<BookDto> getAllBooks(@ParameterObject @PageableDefault(sort = {TITLE, AUTHOR},
-            direction = Sort.Direction.ASC) Pageable pageable) {
-        return bookService.getAll(pageable);
+    public ResponseEntity<Page<BookDto>> getAllBooks(@ParameterObject @PageableDefault(
+            sort = {TITLE, AUTHOR}, direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestHeader(value = IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return EntityTags.conditional(ifNoneMatch, catalogGenerationService.getCurrent(),
+                () -> bookService.getAll(pageable));
+    }
+
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    @GetMapping(params = WITHOUT_TOTAL)
+    @Operation(
+            summary = "Get all books without total",
+            description = "Get a paginated list of all available books in the library "
+                    + "without counting the total number of books "
+                    + "(Required roles: USER, ADMIN)"
+    )
+    public ResponseEntity<PageResponse<BookDto>> getAllBooksWithoutTotal(
+            @ParameterObject @PageableDefault(sort = {TITLE, AUTHOR},
+                    direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestHeader(value = IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return EntityTags.conditional(ifNoneMatch, catalogGenerationService.getCurrent(),
+                () -> bookService.getAllWithoutTotal(pageable));
+    }
+
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    @GetMapping(params = CURSOR)
+    @Operation(
+            summary = "Get all books by cursor",
+            description = "Get a list of all available books ordered by title, author and id, "
+                    + "continuing after the given cursor without counting the total "
+                    + "(Required roles: USER, ADMIN)"
+    )
+    public ResponseEntity<CursorPageDto<BookDto>> getAllBooksByCursor(
+            @RequestParam(CURSOR) String cursor,
+            @RequestParam(defaultValue = DEFAULT_CURSOR_PAGE_SIZE) int size,
+            @RequestHeader(value = IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return EntityTags.conditional(ifNoneMatch, catalogGenerationService.getCurrent(),
+                () -> bookService.getAll(cursor, size));
     }
 
     @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
@@ -55,21 +119,68 @@ public class BookController {
             summary = "Get a book by ID",
             description = "Get book by the given ID (Required roles: USER, ADMIN)"
     )
-    public BookDto getBookById(@PathVariable Long id) {
-        return bookService.getById(id);
+    public ResponseEntity<BookDto> getBookById(@PathVariable Long id,
+            @RequestHeader(value = IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String tag = EntityTags.of(bookService.getVersion(id));
+            if (EntityTags.matches(ifNoneMatch, tag)) {
+                return EntityTags.notModified(tag);
+            }
+        }
+        BookDto book = bookService.getById(id);
+        return ResponseEntity.ok().eTag(EntityTags.of(book.getVersion())).body(book);
     }
 
     @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
     @GetMapping("/search")
     @Operation(
             summary = "Get all books by parameters",
+            description = "Search for books by the given parameters (title, author, etc.). "
+                    + "Title and author matches are ordered by relevance when no other "
+                    + "filter or sort is given (Required roles: USER, ADMIN)"
+    )
+    public Page<BookDto> search(@Valid BookSearchParameters searchParameters,
+                                @ParameterObject @PageableDefault Pageable pageable) {
+        return bookService.search(searchParameters, pageable);
+    }
+
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    @GetMapping(value = "/search", params = WITHOUT_TOTAL)
+    @Operation(
+            summary = "Get all books by parameters without total",
             description = "Search for books by the given parameters (title, author, etc.) "
+                    + "without counting the total number of found books "
                     + "(Required roles: USER, ADMIN)"
     )
-    public Page<BookDto> search(BookSearchParameters searchParameters,
-                                @ParameterObject @PageableDefault(sort = {TITLE, AUTHOR},
-                                        direction = Sort.Direction.ASC) Pageable pageable) {
-        return bookService.search(searchParameters, pageable);
+    public PageResponse<BookDto> searchWithoutTotal(
+            @Valid BookSearchParameters searchParameters,
+            @ParameterObject @PageableDefault Pageable pageable) {
+        return bookService.searchWithoutTotal(searchParameters, pageable);
+    }
+
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Export all books as NDJSON",
+            description = "Stream every available book with its category ids as one JSON "
+                    + "document per line (Required roles: ADMIN)"
+    )
+    public void exportBooksAsNdjson(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        bookExportService.exportBooks(
+                new NdjsonBookExportWriter(response.getOutputStream(), objectMapper));
+    }
+
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @GetMapping(value = "/export", produces = TEXT_CSV)
+    @Operation(
+            summary = "Export all books as CSV",
+            description = "Stream every available book as a CSV row with a header, category ids "
+                    + "separated by ';' (Required roles: ADMIN)"
+    )
+    public void exportBooksAsCsv(HttpServletResponse response) throws IOException {
+        response.setContentType(TEXT_CSV);
+        bookExportService.exportBooks(new CsvBookExportWriter(response.getOutputStream()));
     }
 
     @ResponseStatus(HttpStatus.CREATED)
@@ -83,6 +194,24 @@ public class BookController {
         return bookService.create(bookDto);
     }
 
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @PostMapping(value = "/import",
+            consumes = {TEXT_CSV, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Import books in bulk",
+            description = "Create or update books by ISBN from a CSV (header row, category ids "
+                    + "separated by ';') or NDJSON stream. Per-row errors and progress are "
+                    + "streamed back as NDJSON while the import runs (Required roles: ADMIN)"
+    )
+    public void importBooks(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                            InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream output = response.getOutputStream();
+        bookImportService.importBooks(body, BookImportFormat.fromMediaType(contentType),
+                event -> writeEvent(output, event));
+    }
+
     @PreAuthorize("hasAuthority('ADMIN')")
     @PutMapping("/{id}")
     @Operation(
@@ -106,4 +235,14 @@ public class BookController {
     public void deleteBook(@PathVariable Long id) {
         bookService.deleteById(id);
     }
+
+    private void writeEvent(OutputStream output, BookImportEvent event) {
+        try {
+            output.write(objectMapper.writeValueAsBytes(event));
+            output.write('\n');
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write book import progress", e);
+        }
+    }
 }
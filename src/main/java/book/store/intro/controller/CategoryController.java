@@ -2,10 +2,14 @@ package book.store.intro.controller;
 
 import static book.store.intro.repository.book.BookSpecificationBuilder.AUTHOR;
 import static book.store.intro.repository.book.BookSpecificationBuilder.TITLE;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 
 import book.store.intro.dto.book.BookWithoutCategoriesDto;
 import book.store.intro.dto.category.CategoryDto;
 import book.store.intro.dto.category.CreateCategoryRequestDto;
+import book.store.intro.dto.pagination.CursorPageDto;
+import book.store.intro.model.PageResponse;
+import book.store.intro.service.catalog.CatalogGenerationService;
 import book.store.intro.service.category.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -18,6 +22,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,7 +30,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -37,8 +44,12 @@ import org.springframework.web.bind.annotation.RestController;
 public class CategoryController {
     private static final String NAME = "name";
     private static final String DESCRIPTION = "description";
+    private static final String CURSOR = "cursor";
+    private static final String DEFAULT_CURSOR_PAGE_SIZE = "10";
+    private static final String WITHOUT_TOTAL = "withTotal=false";
 
     private final CategoryService categoryService;
+    private final CatalogGenerationService catalogGenerationService;
 
     @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
     @GetMapping
@@ -47,10 +58,28 @@ public class CategoryController {
             description = "Get a paginated list of all available categories in the library "
                     + "(Required roles: USER, ADMIN)"
     )
-    public Page<CategoryDto> getAllCategories(@ParameterObject @PageableDefault(
-            sort = {NAME, DESCRIPTION}, direction = Sort.Direction.ASC
-    ) Pageable pageable) {
-        return categoryService.getAll(pageable);
+    public ResponseEntity<Page<CategoryDto>> getAllCategories(
+            @ParameterObject @PageableDefault(sort = {NAME, DESCRIPTION},
+                    direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestHeader(value = IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return EntityTags.conditional(ifNoneMatch, catalogGenerationService.getCurrent(),
+                () -> categoryService.getAll(pageable));
+    }
+
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    @GetMapping(params = WITHOUT_TOTAL)
+    @Operation(
+            summary = "Get all categories without total",
+            description = "Get a paginated list of all available categories in the library "
+                    + "without counting the total number of categories "
+                    + "(Required roles: USER, ADMIN)"
+    )
+    public ResponseEntity<PageResponse<CategoryDto>> getAllCategoriesWithoutTotal(
+            @ParameterObject @PageableDefault(sort = {NAME, DESCRIPTION},
+                    direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestHeader(value = IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return EntityTags.conditional(ifNoneMatch, catalogGenerationService.getCurrent(),
+                () -> categoryService.getAllWithoutTotal(pageable));
     }
 
     @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
@@ -59,8 +88,16 @@ public class CategoryController {
             summary = "Get a category by ID",
             description = "Get category by the given ID (Required roles: USER, ADMIN)"
     )
-    public CategoryDto getCategoryById(@PathVariable Long id) {
-        return categoryService.getById(id);
+    public ResponseEntity<CategoryDto> getCategoryById(@PathVariable Long id,
+            @RequestHeader(value = IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String tag = EntityTags.of(categoryService.getVersion(id));
+            if (EntityTags.matches(ifNoneMatch, tag)) {
+                return EntityTags.notModified(tag);
+            }
+        }
+        CategoryDto category = categoryService.getById(id);
+        return ResponseEntity.ok().eTag(EntityTags.of(category.getVersion())).body(category);
     }
 
     @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
@@ -70,10 +107,28 @@ public class CategoryController {
             description = "Get a paginated list of all available books in the library "
                     + "by category ID (Required roles: USER, ADMIN)"
     )
-    public Page<BookWithoutCategoriesDto> getBooksByCategoryId(@ParameterObject @PageableDefault(
-            sort = {TITLE, AUTHOR}, direction = Sort.Direction.ASC
-    ) Pageable pageable, @PathVariable Long id) {
-        return categoryService.getBooksByCategoryId(pageable, id);
+    public ResponseEntity<Page<BookWithoutCategoriesDto>> getBooksByCategoryId(
+            @ParameterObject @PageableDefault(sort = {TITLE, AUTHOR},
+                    direction = Sort.Direction.ASC) Pageable pageable, @PathVariable Long id,
+            @RequestHeader(value = IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return EntityTags.conditional(ifNoneMatch, catalogGenerationService.getCurrent(),
+                () -> categoryService.getBooksByCategoryId(pageable, id));
+    }
+
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    @GetMapping(value = "/{id}/books", params = CURSOR)
+    @Operation(
+            summary = "Get all books by category ID and cursor",
+            description = "Get a list of all available books in the library by category ID "
+                    + "ordered by title, author and id, continuing after the given cursor "
+                    + "without counting the total (Required roles: USER, ADMIN)"
+    )
+    public ResponseEntity<CursorPageDto<BookWithoutCategoriesDto>> getBooksByCategoryIdAndCursor(
+            @PathVariable Long id, @RequestParam(CURSOR) String cursor,
+            @RequestParam(defaultValue = DEFAULT_CURSOR_PAGE_SIZE) int size,
+            @RequestHeader(value = IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return EntityTags.conditional(ifNoneMatch, catalogGenerationService.getCurrent(),
+                () -> categoryService.getBooksByCategoryId(id, cursor, size));
     }
 
     @ResponseStatus(HttpStatus.CREATED)
@@ -0,0 +1,36 @@
+package book.store.intro.controller;
+
+import java.util.function.Supplier;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+final class EntityTags {
+    private EntityTags() {
+    }
+
+    static String of(long version) {
+        return ETag.quoteETagIfNecessary(Long.toString(version));
+    }
+
+    static boolean matches(String ifNoneMatch, String tag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        ETag current = ETag.create(tag);
+        return ETag.parse(ifNoneMatch).stream()
+                .anyMatch(candidate -> candidate.isWildcard() || candidate.compare(current, false));
+    }
+
+    static <T> ResponseEntity<T> notModified(String tag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).build();
+    }
+
+    static <T> ResponseEntity<T> conditional(String ifNoneMatch, long version, Supplier<T> body) {
+        String tag = of(version);
+        if (matches(ifNoneMatch, tag)) {
+            return notModified(tag);
+        }
+        return ResponseEntity.ok().eTag(tag).body(body.get());
+    }
+}
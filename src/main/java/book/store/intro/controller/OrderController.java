@@ -4,6 +4,8 @@ import book.store.intro.dto.order.CreateOrderRequestDto;
 import book.store.intro.dto.order.OrderDto;
 import book.store.intro.dto.order.UpdateOrderStatusRequestDto;
 import book.store.intro.dto.order.item.OrderItemDto;
+import book.store.intro.dto.pagination.CursorPageDto;
+import book.store.intro.model.PageResponse;
 import book.store.intro.model.User;
 import book.store.intro.service.order.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -25,6 +27,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "Order management", description = "Endpoints for managing orders")
@@ -34,6 +37,9 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/orders")
 public class OrderController {
     private static final String ORDER_DATE = "orderDate";
+    private static final String CURSOR = "cursor";
+    private static final String DEFAULT_CURSOR_PAGE_SIZE = "10";
+    private static final String WITHOUT_TOTAL = "withTotal=false";
 
     private final OrderService orderService;
 
@@ -50,6 +56,37 @@ public class OrderController {
         return orderService.getAllOrders(pageable, user.getId());
     }
 
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    @GetMapping(params = WITHOUT_TOTAL)
+    @Operation(
+            summary = "Get order list without total",
+            description = "Retrieve placed orders of the authenticated user "
+                    + "without counting the total number of orders "
+                    + "(Required roles: USER, ADMIN)"
+    )
+    public PageResponse<OrderDto> viewOrderHistoryWithoutTotal(@ParameterObject @PageableDefault(
+            sort = ORDER_DATE, direction = Sort.Direction.DESC) Pageable pageable,
+            Authentication authentication) {
+        User user = getAuthenticatedUser(authentication);
+        return orderService.getAllOrdersWithoutTotal(pageable, user.getId());
+    }
+
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    @GetMapping(params = CURSOR)
+    @Operation(
+            summary = "Get order list by cursor",
+            description = "Retrieve placed orders of the authenticated user, newest first, "
+                    + "continuing after the given cursor without counting the total "
+                    + "(Required roles: USER, ADMIN)"
+    )
+    public CursorPageDto<OrderDto> viewOrderHistoryByCursor(
+            @RequestParam(CURSOR) String cursor,
+            @RequestParam(defaultValue = DEFAULT_CURSOR_PAGE_SIZE) int size,
+            Authentication authentication) {
+        User user = getAuthenticatedUser(authentication);
+        return orderService.getAllOrders(user.getId(), cursor, size);
+    }
+
     @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
     @GetMapping("/{orderId}/items")
     @Operation(
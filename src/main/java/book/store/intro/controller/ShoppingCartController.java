@@ -2,6 +2,7 @@ package book.store.intro.controller;
 
 import book.store.intro.dto.shopping.cart.AddItemToCartRequestDto;
 import book.store.intro.dto.shopping.cart.ShoppingCartDto;
+import book.store.intro.dto.shopping.cart.UpdateCartRequestDto;
 import book.store.intro.dto.shopping.cart.UpdateItemInCartRequestDto;
 import book.store.intro.model.User;
 import book.store.intro.service.shopping.cart.ShoppingCartService;
@@ -72,6 +73,21 @@ public class ShoppingCartController {
                 requestDto, id, getAuthenticatedUserId(authentication));
     }
 
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Apply several cart changes at once",
+            description = "Apply an ordered list of ADD, UPDATE and REMOVE operations keyed by "
+                    + "book ID to the authenticated user's shopping cart in a single "
+                    + "transaction (Required roles: USER, ADMIN)"
+    )
+    public ShoppingCartDto updateCart(
+            @RequestBody @Valid UpdateCartRequestDto requestDto,
+            Authentication authentication) {
+        return shoppingCartService.updateCart(
+                requestDto, getAuthenticatedUserId(authentication));
+    }
+
     @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @DeleteMapping("/item/{id}")
@@ -0,0 +1,35 @@
+package book.store.intro.controller;
+
+import book.store.intro.dto.user.UpdateUserRolesRequestDto;
+import book.store.intro.dto.user.UserResponseDto;
+import book.store.intro.service.user.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "User management", description = "Endpoints for managing users")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/users")
+public class UserController {
+    private final UserService userService;
+
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @PutMapping("/{id}/roles")
+    @Operation(
+            summary = "Replace user roles",
+            description = "Replace the roles of the user with the given id; the change applies "
+                    + "to the user's next request on every node (Required roles: ADMIN)"
+    )
+    public UserResponseDto updateRoles(@PathVariable Long id,
+                                       @RequestBody @Valid UpdateUserRolesRequestDto requestDto) {
+        return userService.updateRoles(id, requestDto);
+    }
+}
@@ -0,0 +1,25 @@
+package book.store.intro.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@ConditionalOnProperty(prefix = "datasource.replica", name = "url")
+@RequiredArgsConstructor
+@Component
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+                             Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            readYourWritesTracker.recordWrite(request, response);
+        }
+        return true;
+    }
+}
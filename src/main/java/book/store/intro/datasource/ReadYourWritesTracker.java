@@ -0,0 +1,71 @@
+package book.store.intro.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ConditionalOnProperty(prefix = "datasource.replica", name = "url")
+@Component
+public class ReadYourWritesTracker {
+    public static final String COOKIE_NAME = "last-write";
+    private static final String REQUEST_ATTRIBUTE = ReadYourWritesTracker.class.getName();
+    private static final Duration LAG_RESOLUTION = Duration.ofSeconds(1);
+
+    private final Duration window;
+
+    public ReadYourWritesTracker(
+            @Value("${datasource.replica.max-lag}") Duration maxLag,
+            @Value("${datasource.replica.lag-check-interval}") Duration lagCheckInterval) {
+        this.window = maxLag.plus(lagCheckInterval).plus(LAG_RESOLUTION);
+    }
+
+    public void recordWrite(HttpServletRequest request, HttpServletResponse response) {
+        long now = System.currentTimeMillis();
+        request.setAttribute(REQUEST_ATTRIBUTE, now);
+        Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(now));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) window.toSeconds() + 1);
+        response.addCookie(cookie);
+    }
+
+    public boolean hasRecentWrite(HttpServletRequest request) {
+        Long lastWrite = lastWrite(request);
+        if (lastWrite == null) {
+            return false;
+        }
+        long elapsed = System.currentTimeMillis() - lastWrite;
+        return elapsed >= 0 && elapsed < window.toMillis();
+    }
+
+    public boolean currentRequestHasRecentWrite() {
+        return RequestContextHolder.getRequestAttributes()
+                instanceof ServletRequestAttributes attributes
+                && hasRecentWrite(attributes.getRequest());
+    }
+
+    private Long lastWrite(HttpServletRequest request) {
+        if (request.getAttribute(REQUEST_ATTRIBUTE) instanceof Long lastWrite) {
+            return lastWrite;
+        }
+        if (request.getCookies() == null) {
+            return null;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.valueOf(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,46 @@
+package book.store.intro.datasource;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@ConditionalOnProperty(prefix = "datasource.replica", name = "url")
+@Component
+public class ReplicaLagMonitor {
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private volatile boolean withinTolerance;
+
+    public ReplicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                             @Value("${datasource.replica.lag-query}") String lagQuery,
+                             @Value("${datasource.replica.max-lag}") Duration maxLag) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toSeconds();
+    }
+
+    public boolean isWithinTolerance() {
+        return withinTolerance;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval}")
+    public void check() {
+        Long lagSeconds;
+        try {
+            lagSeconds = replicaJdbcTemplate.query(lagQuery, resultSet ->
+                    resultSet.next() ? resultSet.getObject(LAG_COLUMN, Long.class) : null);
+        } catch (DataAccessException e) {
+            lagSeconds = null;
+        }
+        withinTolerance = lagSeconds != null && lagSeconds <= maxLagSeconds;
+    }
+}
@@ -1,12 +1,15 @@
 package book.store.intro.dto.book;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.math.BigDecimal;
 import java.util.List;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class BookDto {
     private Long id;
     private String title;
@@ -16,4 +19,18 @@ public class BookDto {
     private String description;
     private List<Long> categoryIds;
     private String coverImage;
+
+    @JsonIgnore
+    private Long version;
+
+    public BookDto(Long id, String title, String author, String isbn, BigDecimal price,
+                   String description, String coverImage) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.isbn = isbn;
+        this.price = price;
+        this.description = description;
+        this.coverImage = coverImage;
+    }
 }
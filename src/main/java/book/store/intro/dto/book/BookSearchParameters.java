@@ -1,11 +1,15 @@
 package book.store.intro.dto.book;
 
+import book.store.intro.annotations.ValidPriceRange;
+import jakarta.validation.constraints.Positive;
 import java.math.BigDecimal;
 
+@ValidPriceRange
 public record BookSearchParameters(
         String title,
         String author,
         String isbn,
-        BigDecimal bottomPrice,
-        BigDecimal upperPrice) {
+        @Positive BigDecimal bottomPrice,
+        @Positive BigDecimal upperPrice,
+        Long categoryId) {
 }
@@ -0,0 +1,12 @@
+package book.store.intro.dto.book.imports;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = BookImportRowError.class, name = "error"),
+        @JsonSubTypes.Type(value = BookImportProgress.class, name = "progress")
+})
+public sealed interface BookImportEvent permits BookImportRowError, BookImportProgress {
+}
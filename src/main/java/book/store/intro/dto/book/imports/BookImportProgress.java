@@ -0,0 +1,10 @@
+package book.store.intro.dto.book.imports;
+
+public record BookImportProgress(
+        long processed,
+        long created,
+        long updated,
+        long failed,
+        boolean completed
+) implements BookImportEvent {
+}
@@ -0,0 +1,7 @@
+package book.store.intro.dto.book.imports;
+
+import java.util.List;
+
+public record BookImportRowError(long row, String isbn, List<String> errors)
+        implements BookImportEvent {
+}
@@ -1,12 +1,20 @@
 package book.store.intro.dto.category;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
+@NoArgsConstructor
+@AllArgsConstructor
 public class CategoryDto {
     private Long id;
     private String name;
     private String description;
+
+    @JsonIgnore
+    private Long version;
 }
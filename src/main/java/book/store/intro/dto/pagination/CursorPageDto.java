@@ -0,0 +1,10 @@
+package book.store.intro.dto.pagination;
+
+import java.util.List;
+
+public record CursorPageDto<T>(
+        List<T> content,
+        String nextCursor,
+        int size
+) {
+}
@@ -0,0 +1,31 @@
+package book.store.intro.dto.shopping.cart;
+
+import book.store.intro.annotations.ValidEnum;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record CartItemOperationDto(
+        @ValidEnum(enumClass = Type.class)
+        String type,
+
+        @Positive
+        @NotNull
+        Long bookId,
+
+        @Positive
+        Integer quantity
+) {
+    @JsonIgnore
+    @AssertTrue(message = "quantity is required for ADD and UPDATE operations")
+    public boolean isQuantityPresent() {
+        return Type.REMOVE.name().equals(type) || quantity != null;
+    }
+
+    public enum Type {
+        ADD,
+        UPDATE,
+        REMOVE
+    }
+}
@@ -0,0 +1,14 @@
+package book.store.intro.dto.shopping.cart;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record UpdateCartRequestDto(
+        @NotEmpty
+        @Size(max = 200)
+        List<@Valid @NotNull CartItemOperationDto> operations
+) {
+}
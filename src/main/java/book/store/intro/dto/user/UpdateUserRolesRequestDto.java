@@ -0,0 +1,12 @@
+package book.store.intro.dto.user;
+
+import book.store.intro.model.Role.RoleName;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.Set;
+
+public record UpdateUserRolesRequestDto(
+        @NotEmpty
+        Set<@NotNull RoleName> roles
+) {
+}
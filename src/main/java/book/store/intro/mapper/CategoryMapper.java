@@ -5,13 +5,16 @@ import book.store.intro.dto.category.CategoryDto;
 import book.store.intro.dto.category.CreateCategoryRequestDto;
 import book.store.intro.model.Category;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
 @Mapper(config = MapperConfig.class)
 public interface CategoryMapper {
     CategoryDto toDto(Category category);
 
+    @Mapping(target = "version", ignore = true)
     Category toEntity(CreateCategoryRequestDto categoryRequestDto);
 
+    @Mapping(target = "version", ignore = true)
     void updateCategoryFromDto(CreateCategoryRequestDto category, @MappingTarget Category entity);
 }
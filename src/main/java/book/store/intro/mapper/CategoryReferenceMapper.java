@@ -0,0 +1,16 @@
+package book.store.intro.mapper;
+
+import book.store.intro.model.Category;
+import book.store.intro.repository.category.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class CategoryReferenceMapper {
+    private final CategoryRepository categoryRepository;
+
+    public Category toReference(Long id) {
+        return categoryRepository.getReferenceById(id);
+    }
+}
@@ -0,0 +1,20 @@
+package book.store.intro.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "catalog_generations")
+public class CatalogGeneration {
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private long generation;
+}
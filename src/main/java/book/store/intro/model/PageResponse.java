@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Slice;
 
 @Getter
 @Setter
@@ -15,4 +16,10 @@ public class PageResponse<T> {
     private Long totalElements;
     private int size;
     private int number;
+    private boolean last;
+
+    public static <T> PageResponse<T> fromSlice(Slice<T> slice) {
+        return new PageResponse<>(slice.getContent(), null, slice.getSize(), slice.getNumber(),
+                slice.isLast());
+    }
 }
@@ -0,0 +1,29 @@
+package book.store.intro.pagination;
+
+import book.store.intro.model.Book;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.data.domain.Sort;
+
+public record BookKeyset(
+        String title,
+        String author,
+        Long id
+) implements Keyset {
+    public static final Sort SORT = Sort.by("title", "author", "id").ascending();
+
+    public BookKeyset {
+        Objects.requireNonNull(title, "title");
+        Objects.requireNonNull(author, "author");
+        Objects.requireNonNull(id, "id");
+    }
+
+    public static BookKeyset of(Book book) {
+        return new BookKeyset(book.getTitle(), book.getAuthor(), book.getId());
+    }
+
+    @Override
+    public Map<String, Object> keys() {
+        return Map.of("title", title, "author", author, "id", id);
+    }
+}
@@ -0,0 +1,61 @@
+package book.store.intro.pagination;
+
+import book.store.intro.dto.pagination.CursorPageDto;
+import book.store.intro.exceptions.InvalidCursorException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+@RequiredArgsConstructor
+@Component
+public class CursorCodec {
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final ObjectMapper objectMapper;
+
+    public ScrollPosition position(String cursor, Class<? extends Keyset> keysetType) {
+        if (!StringUtils.hasText(cursor)) {
+            return ScrollPosition.keyset();
+        }
+        return ScrollPosition.forward(decode(cursor, keysetType).keys());
+    }
+
+    public Limit limit(int size) {
+        return Limit.of(Math.clamp(size, 1, MAX_PAGE_SIZE));
+    }
+
+    public <T, R> CursorPageDto<R> page(Window<T> window, Function<T, Keyset> keysetOf,
+                                        Function<List<T>, List<R>> mapper) {
+        List<T> content = window.getContent();
+        String nextCursor = window.hasNext() && !content.isEmpty()
+                ? encode(keysetOf.apply(content.getLast()))
+                : null;
+        return new CursorPageDto<>(mapper.apply(content), nextCursor, content.size());
+    }
+
+    public String encode(Keyset keyset) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(objectMapper.writeValueAsBytes(keyset));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Can't encode cursor " + keyset, e);
+        }
+    }
+
+    public <T extends Keyset> T decode(String cursor, Class<T> keysetType) {
+        try {
+            return objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), keysetType);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
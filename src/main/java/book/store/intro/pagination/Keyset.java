@@ -0,0 +1,7 @@
+package book.store.intro.pagination;
+
+import java.util.Map;
+
+public interface Keyset {
+    Map<String, Object> keys();
+}
@@ -0,0 +1,28 @@
+package book.store.intro.pagination;
+
+import book.store.intro.model.Order;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.data.domain.Sort;
+
+public record OrderKeyset(
+        LocalDateTime orderDate,
+        Long id
+) implements Keyset {
+    public static final Sort SORT = Sort.by("orderDate", "id").descending();
+
+    public OrderKeyset {
+        Objects.requireNonNull(orderDate, "orderDate");
+        Objects.requireNonNull(id, "id");
+    }
+
+    public static OrderKeyset of(Order order) {
+        return new OrderKeyset(order.getOrderDate(), order.getId());
+    }
+
+    @Override
+    public Map<String, Object> keys() {
+        return Map.of("orderDate", orderDate, "id", id);
+    }
+}
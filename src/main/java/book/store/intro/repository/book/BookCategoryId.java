@@ -0,0 +1,4 @@
+package book.store.intro.repository.book;
+
+public record BookCategoryId(Long bookId, Long categoryId) {
+}
@@ -0,0 +1,38 @@
+package book.store.intro.repository.book;
+
+import book.store.intro.cache.CacheLoading;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BookCountCache {
+    private static final String CACHE_NAME = "books.count";
+    private static final String ALL_BOOKS = "all";
+
+    private final BookRepository bookRepository;
+    private final AsyncCache<String, Long> cache;
+
+    public BookCountCache(BookRepository bookRepository, MeterRegistry meterRegistry,
+                          @Value("${book.count.ttl}") Duration timeToLive) {
+        this.bookRepository = bookRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public long count() {
+        return CacheLoading.get(cache, ALL_BOOKS, bookRepository::count);
+    }
+
+    public void invalidate() {
+        cache.synchronous().invalidateAll();
+    }
+}
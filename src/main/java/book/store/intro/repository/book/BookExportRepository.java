@@ -0,0 +1,28 @@
+package book.store.intro.repository.book;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class BookExportRepository {
+    private static final String SELECT_IDS =
+            "SELECT id FROM books WHERE is_deleted = false ORDER BY id";
+
+    private final DataSource dataSource;
+
+    public BookExportRepository(DataSource dataSource,
+                                @Qualifier("exportDataSource")
+                                Optional<DataSource> exportDataSource) {
+        this.dataSource = exportDataSource.orElse(dataSource);
+    }
+
+    public Stream<Long> streamAllIds(int fetchSize) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+        return jdbcTemplate.queryForStream(SELECT_IDS, (resultSet, rowNum) -> resultSet.getLong(1));
+    }
+}
@@ -1,16 +1,71 @@
 package book.store.intro.repository.book;
 
+import book.store.intro.dto.book.BookDto;
+import book.store.intro.dto.book.BookWithoutCategoriesDto;
 import book.store.intro.model.Book;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.Param;
 
 public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book>,
-        PagingAndSortingRepository<Book, Long> {
-    @Query("SELECT b FROM Book b JOIN b.categories c WHERE c.id = :categoryId")
-    Page<Book> findAllByCategoryId(Pageable pageable, @Param("categoryId") Long categoryId);
+        PagingAndSortingRepository<Book, Long>, BookSliceRepository {
+    @Query(value = "SELECT new book.store.intro.dto.book.BookWithoutCategoriesDto(b.id, b.title, "
+            + "b.author, b.isbn, b.price, b.description, b.coverImage) "
+            + "FROM Book b JOIN b.categories c WHERE c.id = :categoryId",
+            countQuery = "SELECT COUNT(b) FROM Book b JOIN b.categories c "
+                    + "WHERE c.id = :categoryId")
+    Page<BookWithoutCategoriesDto> findAllByCategoryId(Pageable pageable,
+                                                       @Param("categoryId") Long categoryId);
+
+    @Query("SELECT new book.store.intro.dto.book.BookDto(b.id, b.title, b.author, b.isbn, "
+            + "b.price, b.description, b.coverImage) FROM Book b")
+    Slice<BookDto> findSliceBy(Pageable pageable);
+
+    Window<Book> findAllBy(ScrollPosition position, Limit limit, Sort sort);
+
+    Window<Book> findAllByCategoriesId(Long categoryId, ScrollPosition position,
+                                       Limit limit, Sort sort);
+
+    @Query("SELECT DISTINCT b FROM Book b LEFT JOIN FETCH b.categories WHERE b.id IN :ids")
+    List<Book> findAllWithCategoriesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new book.store.intro.repository.book.BookCategoryId(b.id, c.id) "
+            + "FROM Book b LEFT JOIN b.categories c WHERE b.id IN :ids AND c.id IS NOT NULL")
+    List<BookCategoryId> findCategoryIdsByBookIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT b.version FROM Book b WHERE b.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "UPDATE books SET version = version + 1 WHERE id IN "
+            + "(SELECT book_id FROM books_categories WHERE category_id = :categoryId)",
+            nativeQuery = true)
+    int incrementVersionByCategoryId(@Param("categoryId") Long categoryId);
+
+    @Query("SELECT b.id FROM Book b WHERE b.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "SELECT * FROM books WHERE isbn IN :isbns", nativeQuery = true)
+    List<Book> findAllByIsbnInIncludingDeleted(@Param("isbns") Collection<String> isbns);
+
+    @Query("SELECT b.id AS id, b.title AS title, b.author AS author, "
+            + "b.description AS description FROM Book b")
+    List<BookTextProjection> findAllTextProjections();
+
+    @Query("SELECT b.id AS id, b.title AS title, b.author AS author, "
+            + "b.description AS description FROM Book b WHERE b.id = :id")
+    Optional<BookTextProjection> findTextProjectionById(@Param("id") Long id);
 }
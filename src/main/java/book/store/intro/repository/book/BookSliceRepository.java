@@ -0,0 +1,10 @@
+package book.store.intro.repository.book;
+
+import book.store.intro.model.Book;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface BookSliceRepository {
+    Slice<Book> findSlice(Specification<Book> specification, Pageable pageable);
+}
@@ -5,6 +5,8 @@ import book.store.intro.model.Book;
 import book.store.intro.repository.SpecificationBuilder;
 import book.store.intro.repository.SpecificationProviderManager;
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
@@ -12,37 +14,44 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 @Component
 public class BookSpecificationBuilder implements SpecificationBuilder<Book> {
+    public static final String ID = "id";
     public static final String TITLE = "title";
     public static final String AUTHOR = "author";
     public static final String ISBN = "isbn";
     public static final String PRICE = "price";
-    public static final String NO_VALUE = "no_value";
+    public static final String CATEGORIES = "categories";
     public static final String DELIMITER = "-";
 
+    private static final List<KeyedFilter> TEXT_FILTERS = List.of(
+            new KeyedFilter(TITLE, BookSearchParameters::title),
+            new KeyedFilter(AUTHOR, BookSearchParameters::author));
+    private static final List<KeyedFilter> FILTERS = List.of(
+            new KeyedFilter(ISBN, BookSearchParameters::isbn));
+
     private final SpecificationProviderManager<Book> bookSpecificationProviderManager;
 
     @Override
     public Specification<Book> build(BookSearchParameters searchParameters) {
-        Specification<Book> spec = Specification.where(null);
-        if (searchParameters.title() != null && !searchParameters.title().isEmpty()) {
-            spec = spec.and(bookSpecificationProviderManager
-                    .getSpecificationProvider(TITLE)
-                    .getSpecification(searchParameters.title()));
-        }
-        if (searchParameters.author() != null && !searchParameters.author().isEmpty()) {
-            spec = spec.and(bookSpecificationProviderManager
-                    .getSpecificationProvider(AUTHOR)
-                    .getSpecification(searchParameters.author()));
-        }
-        if (searchParameters.isbn() != null && !searchParameters.isbn().isEmpty()) {
-            spec = spec.and(bookSpecificationProviderManager
-                    .getSpecificationProvider(ISBN)
-                    .getSpecification(searchParameters.isbn()));
+        return and(buildFilters(searchParameters), TEXT_FILTERS, searchParameters);
+    }
+
+    public boolean hasTextTerms(BookSearchParameters searchParameters) {
+        return hasAnyValue(TEXT_FILTERS, searchParameters);
+    }
+
+    public boolean hasFilters(BookSearchParameters searchParameters) {
+        return hasAnyValue(FILTERS, searchParameters)
+                || searchParameters.categoryId() != null
+                || searchParameters.bottomPrice() != null
+                || searchParameters.upperPrice() != null;
+    }
+
+    private Specification<Book> buildFilters(BookSearchParameters searchParameters) {
+        Specification<Book> spec = and(Specification.where(null), FILTERS, searchParameters);
+        if (searchParameters.categoryId() != null) {
+            spec = spec.and(inCategory(searchParameters.categoryId()));
         }
-        if (((searchParameters.bottomPrice() != null
-                && searchParameters.bottomPrice().compareTo(BigDecimal.ZERO) > 0))
-                || ((searchParameters.upperPrice() != null
-                && searchParameters.upperPrice().compareTo(BigDecimal.ZERO) > 0))) {
+        if (searchParameters.bottomPrice() != null || searchParameters.upperPrice() != null) {
             spec = spec.and(bookSpecificationProviderManager
                     .getSpecificationProvider(PRICE)
                     .getSpecification(priceToStringConverter(searchParameters.bottomPrice(),
@@ -51,15 +60,39 @@ public class BookSpecificationBuilder implements SpecificationBuilder<Book> {
         return spec;
     }
 
+    private Specification<Book> and(Specification<Book> spec, List<KeyedFilter> filters,
+                                    BookSearchParameters searchParameters) {
+        for (KeyedFilter filter : filters) {
+            String value = filter.value(searchParameters);
+            if (value != null) {
+                spec = spec.and(bookSpecificationProviderManager
+                        .getSpecificationProvider(filter.key())
+                        .getSpecification(value));
+            }
+        }
+        return spec;
+    }
+
+    private boolean hasAnyValue(List<KeyedFilter> filters,
+                                BookSearchParameters searchParameters) {
+        return filters.stream().anyMatch(filter -> filter.value(searchParameters) != null);
+    }
+
+    private Specification<Book> inCategory(Long categoryId) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.join(CATEGORIES).get(ID), categoryId);
+    }
+
     private String priceToStringConverter(BigDecimal bottomPrice, BigDecimal upperPrice) {
-        StringBuilder stringBuilder = new StringBuilder();
-        return stringBuilder.append(bottomPrice != null
-                        ? bottomPrice.toString()
-                        : NO_VALUE)
-                .append(DELIMITER)
-                .append(upperPrice != null
-                        ? upperPrice.toString()
-                        : NO_VALUE)
-                .toString();
+        return (bottomPrice != null ? bottomPrice.toPlainString() : "")
+                + DELIMITER
+                + (upperPrice != null ? upperPrice.toPlainString() : "");
+    }
+
+    private record KeyedFilter(String key, Function<BookSearchParameters, String> getter) {
+        String value(BookSearchParameters searchParameters) {
+            String value = getter.apply(searchParameters);
+            return value == null || value.isEmpty() ? null : value;
+        }
     }
 }
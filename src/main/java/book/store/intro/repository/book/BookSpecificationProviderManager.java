@@ -4,21 +4,37 @@ import book.store.intro.exceptions.SpecificationNotFoundException;
 import book.store.intro.model.Book;
 import book.store.intro.repository.SpecificationProvider;
 import book.store.intro.repository.SpecificationProviderManager;
+import java.util.HashMap;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 
-@RequiredArgsConstructor
 @Component
 public class BookSpecificationProviderManager implements SpecificationProviderManager<Book> {
-    private final List<SpecificationProvider<Book>> bookSpecificationProviders;
+    private final Map<String, SpecificationProvider<Book>> bookSpecificationProviders;
+
+    public BookSpecificationProviderManager(
+            List<SpecificationProvider<Book>> bookSpecificationProviders) {
+        Map<String, SpecificationProvider<Book>> providersByKey = new HashMap<>();
+        for (SpecificationProvider<Book> provider : bookSpecificationProviders) {
+            SpecificationProvider<Book> registered =
+                    providersByKey.putIfAbsent(provider.getKey(), provider);
+            if (registered != null) {
+                throw new IllegalStateException("Duplicate specification provider key "
+                        + provider.getKey() + ": " + registered.getClass().getName()
+                        + " and " + provider.getClass().getName());
+            }
+        }
+        this.bookSpecificationProviders = Map.copyOf(providersByKey);
+    }
 
     @Override
     public SpecificationProvider<Book> getSpecificationProvider(String key) {
-        return bookSpecificationProviders.stream()
-                .filter(p -> p.getKey().equals(key))
-                .findFirst()
-                .orElseThrow(() -> new SpecificationNotFoundException(
-                        "Can't find correct specification provided for key " + key));
+        SpecificationProvider<Book> provider = bookSpecificationProviders.get(key);
+        if (provider == null) {
+            throw new SpecificationNotFoundException(
+                    "Can't find correct specification provided for key " + key);
+        }
+        return provider;
     }
 }
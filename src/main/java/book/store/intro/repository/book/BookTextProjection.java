@@ -0,0 +1,11 @@
+package book.store.intro.repository.book;
+
+public interface BookTextProjection {
+    Long getId();
+
+    String getTitle();
+
+    String getAuthor();
+
+    String getDescription();
+}
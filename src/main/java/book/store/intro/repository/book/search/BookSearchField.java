@@ -0,0 +1,21 @@
+package book.store.intro.repository.book.search;
+
+public enum BookSearchField {
+    TITLE(3),
+    AUTHOR(2),
+    DESCRIPTION(1);
+
+    private final int weight;
+
+    BookSearchField(int weight) {
+        this.weight = weight;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public int mask() {
+        return 1 << ordinal();
+    }
+}
@@ -0,0 +1,330 @@
+package book.store.intro.repository.book.search;
+
+import book.store.intro.cache.CacheInvalidation;
+import book.store.intro.cache.CacheInvalidationBus;
+import book.store.intro.model.Book;
+import book.store.intro.repository.book.BookRepository;
+import book.store.intro.repository.book.BookTextProjection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+@Component
+public class BookSearchIndex {
+    public static final String OUTBOX_CHANNEL = "bookSearchIndex";
+
+    private static final Pattern TOKEN_DELIMITER = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final Set<BookSearchField> TITLE_FIELDS =
+            EnumSet.of(BookSearchField.TITLE, BookSearchField.DESCRIPTION);
+    private static final Set<BookSearchField> AUTHOR_FIELDS =
+            EnumSet.of(BookSearchField.AUTHOR);
+    private static final int EXACT_MATCH_BOOST = 3;
+    private static final int PREFIX_MATCH_BOOST = 2;
+    private static final int FUZZY_MATCH_BOOST = 1;
+    private static final int FUZZY_MIN_TOKEN_LENGTH = 4;
+
+    private final BookRepository bookRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final boolean enabled;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private Map<Long, BookText> changesDuringRebuild;
+    private volatile boolean ready;
+
+    public BookSearchIndex(BookRepository bookRepository,
+                           CacheInvalidationBus cacheInvalidationBus,
+                           @Value("${book.search.index.enabled}") boolean enabled) {
+        this.bookRepository = bookRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        writeLocked(() -> changesDuringRebuild = new HashMap<>());
+        List<BookTextProjection> books;
+        try {
+            books = bookRepository.findAllTextProjections();
+        } catch (RuntimeException e) {
+            writeLocked(() -> changesDuringRebuild = null);
+            throw e;
+        }
+        NavigableMap<String, Map<Long, Integer>> newPostings = new TreeMap<>();
+        Map<Long, Map<String, Integer>> newDocuments = new HashMap<>();
+        books.forEach(book -> addDocument(newPostings, newDocuments, BookText.of(book)));
+        writeLocked(() -> {
+            postings = newPostings;
+            documents = newDocuments;
+            Map<Long, BookText> changes = changesDuringRebuild;
+            changesDuringRebuild = null;
+            changes.forEach(this::applyChange);
+            ready = true;
+        });
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void index(Book book) {
+        if (book != null) {
+            indexAll(List.of(book));
+        }
+    }
+
+    public void indexAll(Collection<Book> books) {
+        if (!enabled || books.isEmpty()) {
+            return;
+        }
+        List<BookText> texts = books.stream()
+                .map(BookText::of)
+                .toList();
+        runAfterCommit(() -> replaceDocuments(texts));
+        publish(texts.stream().map(BookText::id).toList());
+    }
+
+    public void remove(Long id) {
+        if (!enabled) {
+            return;
+        }
+        runAfterCommit(() -> writeLocked(() -> applyChange(id, null)));
+        publish(List.of(id));
+    }
+
+    @EventListener
+    public void onRemoteChange(CacheInvalidation invalidation) {
+        if (!enabled || !OUTBOX_CHANNEL.equals(invalidation.cacheName())
+                || invalidation.isClear()) {
+            return;
+        }
+        Long id = invalidation.key();
+        BookText text = bookRepository.findTextProjectionById(id).map(BookText::of).orElse(null);
+        writeLocked(() -> applyChange(id, text));
+    }
+
+    public List<Long> search(String title, String author) {
+        lock.readLock().lock();
+        Map<Long, Integer> scores = null;
+        try {
+            if (StringUtils.hasText(title)) {
+                scores = intersect(scores, match(title, TITLE_FIELDS));
+            }
+            if (StringUtils.hasText(author)) {
+                scores = intersect(scores, match(author, AUTHOR_FIELDS));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (scores == null) {
+            return List.of();
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private Map<Long, Integer> match(String text, Set<BookSearchField> fields) {
+        Map<Long, Integer> scores = null;
+        for (String token : tokenize(text)) {
+            scores = intersect(scores, matchToken(token, fields));
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        return scores == null ? Map.of() : scores;
+    }
+
+    private Map<Long, Integer> matchToken(String token, Set<BookSearchField> fields) {
+        Map<Long, Integer> scores = new HashMap<>();
+        Map<Long, Integer> exactMatches = postings.get(token);
+        if (exactMatches != null) {
+            collect(scores, exactMatches, fields, EXACT_MATCH_BOOST);
+        }
+        postings.subMap(token, false, token + Character.MAX_VALUE, false)
+                .values()
+                .forEach(matches -> collect(scores, matches, fields, PREFIX_MATCH_BOOST));
+        if (token.length() >= FUZZY_MIN_TOKEN_LENGTH) {
+            String firstLetter = token.substring(0, 1);
+            postings.subMap(firstLetter, true, firstLetter + Character.MAX_VALUE, false)
+                    .entrySet().stream()
+                    .filter(entry -> isSingleEdit(token, entry.getKey()))
+                    .forEach(entry -> collect(scores, entry.getValue(), fields,
+                            FUZZY_MATCH_BOOST));
+        }
+        return scores;
+    }
+
+    private void collect(Map<Long, Integer> scores, Map<Long, Integer> matches,
+                         Set<BookSearchField> fields, int boost) {
+        matches.forEach((bookId, fieldMask) -> {
+            int score = score(fieldMask, fields) * boost;
+            if (score > 0) {
+                scores.merge(bookId, score, Math::max);
+            }
+        });
+    }
+
+    private int score(int fieldMask, Set<BookSearchField> fields) {
+        int score = 0;
+        for (BookSearchField field : fields) {
+            if ((fieldMask & field.mask()) != 0) {
+                score += field.getWeight();
+            }
+        }
+        return score;
+    }
+
+    private Map<Long, Integer> intersect(Map<Long, Integer> current, Map<Long, Integer> next) {
+        if (current == null) {
+            return new HashMap<>(next);
+        }
+        current.keySet().retainAll(next.keySet());
+        current.replaceAll((bookId, score) -> score + next.get(bookId));
+        return current;
+    }
+
+    private void replaceDocuments(List<BookText> texts) {
+        writeLocked(() -> texts.forEach(text -> applyChange(text.id(), text)));
+    }
+
+    private void writeLocked(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyChange(Long id, BookText text) {
+        removeDocument(id);
+        if (text != null) {
+            addDocument(postings, documents, text);
+        }
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.put(id, text);
+        }
+    }
+
+    private void publish(List<Long> ids) {
+        cacheInvalidationBus.publish(ids.stream()
+                .map(id -> CacheInvalidation.evict(OUTBOX_CHANNEL, id))
+                .toArray(CacheInvalidation[]::new));
+    }
+
+    private void addDocument(NavigableMap<String, Map<Long, Integer>> targetPostings,
+                             Map<Long, Map<String, Integer>> targetDocuments, BookText text) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, text.title(), BookSearchField.TITLE);
+        addTerms(terms, text.author(), BookSearchField.AUTHOR);
+        addTerms(terms, text.description(), BookSearchField.DESCRIPTION);
+        terms.forEach((term, fieldMask) -> targetPostings
+                .computeIfAbsent(term, key -> new HashMap<>()).put(text.id(), fieldMask));
+        targetDocuments.put(text.id(), terms);
+    }
+
+    private void addTerms(Map<String, Integer> terms, String text, BookSearchField field) {
+        tokenize(text).forEach(term -> terms.merge(term, field.mask(), (a, b) -> a | b));
+    }
+
+    private void removeDocument(Long id) {
+        Map<String, Integer> terms = documents.remove(id);
+        if (terms == null) {
+            return;
+        }
+        terms.keySet().forEach(term -> {
+            Map<Long, Integer> matches = postings.get(term);
+            matches.remove(id);
+            if (matches.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+    }
+
+    private List<String> tokenize(String text) {
+        if (!StringUtils.hasText(text)) {
+            return List.of();
+        }
+        return Arrays.stream(TOKEN_DELIMITER.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .toList();
+    }
+
+    private boolean isSingleEdit(String first, String second) {
+        int lengthDifference = first.length() - second.length();
+        if (Math.abs(lengthDifference) > 1 || first.equals(second)) {
+            return false;
+        }
+        String longer = lengthDifference >= 0 ? first : second;
+        String shorter = lengthDifference >= 0 ? second : first;
+        int i = 0;
+        int j = 0;
+        boolean edited = false;
+        while (i < longer.length() && j < shorter.length()) {
+            if (longer.charAt(i) != shorter.charAt(j)) {
+                if (edited) {
+                    return false;
+                }
+                edited = true;
+                if (longer.length() == shorter.length()) {
+                    j++;
+                }
+            } else {
+                j++;
+            }
+            i++;
+        }
+        return true;
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record BookText(Long id, String title, String author, String description) {
+        private static BookText of(Book book) {
+            return new BookText(book.getId(), book.getTitle(), book.getAuthor(),
+                    book.getDescription());
+        }
+
+        private static BookText of(BookTextProjection book) {
+            return new BookText(book.getId(), book.getTitle(), book.getAuthor(),
+                    book.getDescription());
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package book.store.intro.repository.book.spec;
 
 import static book.store.intro.repository.book.BookSpecificationBuilder.DELIMITER;
-import static book.store.intro.repository.book.BookSpecificationBuilder.NO_VALUE;
 import static book.store.intro.repository.book.BookSpecificationBuilder.PRICE;
 
 import book.store.intro.model.Book;
 import book.store.intro.repository.SpecificationProvider;
+import java.math.BigDecimal;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
@@ -21,21 +21,25 @@ public class PriceSpecificationProvider implements SpecificationProvider<Book> {
 
     @Override
     public Specification<Book> getSpecification(String params) {
-        String[] paramsSplit = params.split(DELIMITER);
-        String bottomPrice = paramsSplit[BOTTOM_PRICE];
-        String upperPrice = paramsSplit[UPPER_PRICE];
+        String[] paramsSplit = params.split(DELIMITER, -1);
+        return getSpecification(toPrice(paramsSplit[BOTTOM_PRICE]),
+                toPrice(paramsSplit[UPPER_PRICE]));
+    }
 
-        if (bottomPrice.equals(NO_VALUE)) {
+    public Specification<Book> getSpecification(BigDecimal bottomPrice, BigDecimal upperPrice) {
+        if (bottomPrice == null) {
             return (root, query, criteriaBuilder) ->
-                    criteriaBuilder.lessThan(root.get(PRICE), upperPrice);
+                    criteriaBuilder.lessThanOrEqualTo(root.get(PRICE), upperPrice);
         }
-
-        if (upperPrice.equals(NO_VALUE)) {
+        if (upperPrice == null) {
             return (root, query, criteriaBuilder) ->
-                    criteriaBuilder.greaterThan(root.get(PRICE), bottomPrice);
+                    criteriaBuilder.greaterThanOrEqualTo(root.get(PRICE), bottomPrice);
         }
-
         return (root, query, criteriaBuilder) ->
                 criteriaBuilder.between(root.get(PRICE), bottomPrice, upperPrice);
     }
+
+    private BigDecimal toPrice(String value) {
+        return value.isEmpty() ? null : new BigDecimal(value);
+    }
 }
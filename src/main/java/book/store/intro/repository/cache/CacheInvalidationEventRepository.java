@@ -0,0 +1,24 @@
+package book.store.intro.repository.cache;
+
+import book.store.intro.model.CacheInvalidationEvent;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface CacheInvalidationEventRepository
+        extends JpaRepository<CacheInvalidationEvent, Long> {
+    List<CacheInvalidationEvent> findAllByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM CacheInvalidationEvent e")
+    Long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CacheInvalidationEvent e WHERE e.createdAt < :threshold")
+    int deleteAllCreatedBefore(@Param("threshold") LocalDateTime threshold);
+}
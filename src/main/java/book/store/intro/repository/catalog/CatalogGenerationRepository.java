@@ -0,0 +1,15 @@
+package book.store.intro.repository.catalog;
+
+import book.store.intro.model.CatalogGeneration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface CatalogGenerationRepository extends JpaRepository<CatalogGeneration, Long> {
+    @Query("SELECT g.generation FROM CatalogGeneration g")
+    long findGeneration();
+
+    @Modifying
+    @Query("UPDATE CatalogGeneration g SET g.generation = g.generation + 1")
+    void increment();
+}
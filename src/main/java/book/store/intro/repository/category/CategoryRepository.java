@@ -1,7 +1,25 @@
 package book.store.intro.repository.category;
 
+import book.store.intro.dto.category.CategoryDto;
 import book.store.intro.model.Category;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+    String SELECT_DTO = "SELECT new book.store.intro.dto.category.CategoryDto("
+            + "c.id, c.name, c.description, c.version) FROM Category c";
+
+    @Query(value = SELECT_DTO, countQuery = "SELECT COUNT(c) FROM Category c")
+    Page<CategoryDto> findPageBy(Pageable pageable);
+
+    @Query(SELECT_DTO)
+    Slice<CategoryDto> findSliceBy(Pageable pageable);
+
+    @Query("SELECT c.version FROM Category c WHERE c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
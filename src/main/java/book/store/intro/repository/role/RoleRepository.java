@@ -2,9 +2,13 @@ package book.store.intro.repository.role;
 
 import book.store.intro.model.Role;
 import book.store.intro.model.Role.RoleName;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface RoleRepository extends JpaRepository<Role, Long> {
     Optional<Role> findByRole(RoleName role);
+
+    List<Role> findAllByRoleIn(Collection<RoleName> roles);
 }
@@ -1,7 +1,16 @@
 package book.store.intro.repository.shopping.cart;
 
 import book.store.intro.model.ShoppingCart;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
 public interface ShoppingCartRepository extends JpaRepository<ShoppingCart, Long> {
+    @EntityGraph(attributePaths = {"cartItems", "cartItems.book"})
+    Optional<ShoppingCart> findWithCartItemsById(Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ShoppingCart> findForUpdateById(Long id);
 }
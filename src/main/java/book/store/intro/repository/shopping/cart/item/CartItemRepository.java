@@ -1,7 +1,52 @@
 package book.store.intro.repository.shopping.cart.item;
 
 import book.store.intro.model.CartItem;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
+    @Query("SELECT new book.store.intro.repository.shopping.cart.item.CheckoutItem("
+            + "b.id, ci.quantity, b.price) "
+            + "FROM CartItem ci JOIN ci.book b "
+            + "WHERE ci.shoppingCart.id = :shoppingCartId "
+            + "ORDER BY ci.id")
+    List<CheckoutItem> findCheckoutItemsByShoppingCartId(
+            @Param("shoppingCartId") Long shoppingCartId);
+
+    @Modifying
+    @Query("UPDATE CartItem ci SET ci.quantity = ci.quantity + :quantity "
+            + "WHERE ci.shoppingCart.id = :shoppingCartId AND ci.book.id = :bookId")
+    int incrementQuantity(@Param("shoppingCartId") Long shoppingCartId,
+                          @Param("bookId") Long bookId,
+                          @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("UPDATE CartItem ci SET ci.quantity = :quantity "
+            + "WHERE ci.id = :id AND ci.shoppingCart.id = :shoppingCartId")
+    int updateQuantity(@Param("id") Long id,
+                       @Param("shoppingCartId") Long shoppingCartId,
+                       @Param("quantity") int quantity);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ci FROM CartItem ci "
+            + "WHERE ci.shoppingCart.id = :shoppingCartId AND ci.book.id IN :bookIds")
+    List<CartItem> findAllForUpdateByShoppingCartIdAndBookIdIn(
+            @Param("shoppingCartId") Long shoppingCartId,
+            @Param("bookIds") Collection<Long> bookIds);
+
+    @Modifying
+    @Query("DELETE FROM CartItem ci "
+            + "WHERE ci.shoppingCart.id = :shoppingCartId AND ci.book.id IN :bookIds")
+    int deleteAllByShoppingCartIdAndBookIdIn(@Param("shoppingCartId") Long shoppingCartId,
+                                             @Param("bookIds") Collection<Long> bookIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM CartItem ci WHERE ci.shoppingCart.id = :shoppingCartId")
+    int deleteAllByShoppingCartId(@Param("shoppingCartId") Long shoppingCartId);
 }
@@ -0,0 +1,9 @@
+package book.store.intro.repository.shopping.cart.item;
+
+import java.math.BigDecimal;
+
+public record CheckoutItem(Long bookId, int quantity, BigDecimal price) {
+    public BigDecimal subtotal() {
+        return price.multiply(BigDecimal.valueOf(quantity));
+    }
+}
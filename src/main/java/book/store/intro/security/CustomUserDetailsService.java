@@ -11,11 +11,12 @@ import org.springframework.stereotype.Service;
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) {
-        return userRepository.findByEmail(email).orElseThrow(
+        return userPrincipalCache.get(email, () -> userRepository.findByEmail(email).orElseThrow(
                 () -> new EntityNotFoundException("Can't find user by email:" + email)
-        );
+        ));
     }
 }
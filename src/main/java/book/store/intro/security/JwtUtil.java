@@ -1,8 +1,8 @@
 package book.store.intro.security;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
@@ -15,12 +15,16 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtUtil {
     private final SecretKey secret;
+    private final JwtParser parser;
 
     @Value("${jwt.expiration}")
     private Long expiration;
 
     public JwtUtil(@Value("${jwt.secret}") String secretString) {
         secret = Keys.hmacShaKeyFor(secretString.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(secret)
+                .build();
     }
 
     public String generateToken(String email) {
@@ -32,14 +36,13 @@ public class JwtUtil {
                 .compact();
     }
 
-    public boolean isValidToken(String token) {
+    public VerifiedToken verify(String token) {
         try {
-            Jws<Claims> claimsJws = Jwts.parser()
-                    .verifyWith(secret)
-                    .build()
-                    .parseSignedClaims(token);
-
-            return !claimsJws.getPayload().getExpiration().before(new Date());
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration().before(new Date())) {
+                throw new JwtException("Expired or invalid JWT token");
+            }
+            return new VerifiedToken(claims.getSubject(), claims.getExpiration().toInstant());
         } catch (JwtException | IllegalArgumentException e) {
             throw new JwtException("Expired or invalid JWT token");
         }
@@ -50,11 +53,7 @@ public class JwtUtil {
     }
 
     private <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = Jwts.parser()
-                .verifyWith(secret)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        final Claims claims = parser.parseSignedClaims(token).getPayload();
         return claimsResolver.apply(claims);
     }
 }
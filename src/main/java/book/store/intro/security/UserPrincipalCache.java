@@ -0,0 +1,51 @@
+package book.store.intro.security;
+
+import book.store.intro.cache.CacheLoading;
+import book.store.intro.model.User;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserPrincipalCache {
+    private static final String CACHE_NAME = "users.principals";
+
+    private final AsyncCache<String, User> cache;
+
+    public UserPrincipalCache(MeterRegistry meterRegistry,
+                              @Value("${user.cache.max-size}") long maxSize,
+                              @Value("${user.cache.ttl}") Duration timeToLive) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public User get(String email, Supplier<User> loader) {
+        return CacheLoading.get(cache, email, loader);
+    }
+
+    public void invalidate(String email) {
+        cache.synchronous().invalidate(email);
+    }
+
+    public void invalidate(Long userId) {
+        cache.synchronous().asMap().values().removeIf(user -> user.getId().equals(userId));
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+}
@@ -0,0 +1,44 @@
+package book.store.intro.security;
+
+import book.store.intro.cache.CacheInvalidation;
+import book.store.intro.cache.CacheInvalidationBus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@RequiredArgsConstructor
+@Component
+public class UserPrincipalCacheInvalidator {
+    public static final String OUTBOX_CHANNEL = "userPrincipals";
+
+    private final UserPrincipalCache userPrincipalCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    public void invalidate(Long userId) {
+        cacheInvalidationBus.publish(CacheInvalidation.evict(OUTBOX_CHANNEL, userId));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userPrincipalCache.invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userPrincipalCache.invalidate(userId);
+            }
+        });
+    }
+
+    @EventListener
+    public void onRemoteChange(CacheInvalidation invalidation) {
+        if (!OUTBOX_CHANNEL.equals(invalidation.cacheName())) {
+            return;
+        }
+        if (invalidation.isClear()) {
+            userPrincipalCache.invalidateAll();
+        } else {
+            userPrincipalCache.invalidate(invalidation.key());
+        }
+    }
+}
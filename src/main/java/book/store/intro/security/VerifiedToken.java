@@ -0,0 +1,9 @@
+package book.store.intro.security;
+
+import java.time.Instant;
+
+public record VerifiedToken(
+        String subject,
+        Instant expiresAt
+) {
+}
@@ -3,16 +3,26 @@ package book.store.intro.service.book;
 import book.store.intro.dto.book.BookDto;
 import book.store.intro.dto.book.BookSearchParameters;
 import book.store.intro.dto.book.CreateBookRequestDto;
+import book.store.intro.dto.pagination.CursorPageDto;
+import book.store.intro.model.PageResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface BookService {
     Page<BookDto> getAll(Pageable pageable);
 
+    CursorPageDto<BookDto> getAll(String cursor, int size);
+
+    PageResponse<BookDto> getAllWithoutTotal(Pageable pageable);
+
     BookDto getById(Long id);
 
+    long getVersion(Long id);
+
     Page<BookDto> search(BookSearchParameters params, Pageable pageable);
 
+    PageResponse<BookDto> searchWithoutTotal(BookSearchParameters params, Pageable pageable);
+
     BookDto create(CreateBookRequestDto bookDto);
 
     BookDto updateById(Long id, CreateBookRequestDto bookDto);
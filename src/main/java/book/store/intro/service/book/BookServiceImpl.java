@@ -1,17 +1,48 @@
 package book.store.intro.service.book;
 
+import static book.store.intro.config.CacheConfig.BOOKS;
+import static book.store.intro.repository.book.BookSpecificationBuilder.AUTHOR;
+import static book.store.intro.repository.book.BookSpecificationBuilder.TITLE;
+
+import book.store.intro.cache.CacheInvalidation;
+import book.store.intro.cache.CacheInvalidationBus;
 import book.store.intro.dto.book.BookDto;
 import book.store.intro.dto.book.BookSearchParameters;
 import book.store.intro.dto.book.CreateBookRequestDto;
+import book.store.intro.dto.pagination.CursorPageDto;
 import book.store.intro.exceptions.EntityNotFoundException;
 import book.store.intro.mapper.BookMapper;
 import book.store.intro.model.Book;
+import book.store.intro.model.PageResponse;
+import book.store.intro.pagination.BookKeyset;
+import book.store.intro.pagination.CursorCodec;
+import book.store.intro.repository.book.BookCategoryId;
+import book.store.intro.repository.book.BookCountCache;
 import book.store.intro.repository.book.BookRepository;
 import book.store.intro.repository.book.BookSpecificationBuilder;
+import book.store.intro.repository.book.search.BookSearchIndex;
+import book.store.intro.service.catalog.CatalogGenerationService;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,16 +50,46 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 @Service
 public class BookServiceImpl implements BookService {
+    private static final Sort SEARCH_SORT = Sort.by(TITLE, AUTHOR);
+
     private final BookRepository bookRepository;
     private final BookMapper bookMapper;
     private final BookSpecificationBuilder bookSpecificationBuilder;
+    private final BookSearchIndex bookSearchIndex;
+    private final CursorCodec cursorCodec;
+    private final BookCountCache bookCountCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final CatalogGenerationService catalogGenerationService;
+    private final CacheManager cacheManager;
 
+    @Transactional(readOnly = true)
     @Override
     public Page<BookDto> getAll(Pageable pageable) {
-        return bookRepository.findAll(pageable)
-                .map(bookMapper::toDto);
+        Slice<BookDto> books = bookRepository.findSliceBy(pageable);
+        long knownMinimum = pageable.getOffset() + books.getNumberOfElements()
+                + (books.hasNext() ? 1 : 0);
+        return PageableExecutionUtils.getPage(withCategoryIds(books.getContent()), pageable,
+                () -> Math.max(bookCountCache.count(), knownMinimum));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageDto<BookDto> getAll(String cursor, int size) {
+        ScrollPosition position = cursorCodec.position(cursor, BookKeyset.class);
+        Window<Book> books = bookRepository.findAllBy(
+                position, cursorCodec.limit(size), BookKeyset.SORT);
+        return cursorCodec.page(books, BookKeyset::of, this::toDtos);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public PageResponse<BookDto> getAllWithoutTotal(Pageable pageable) {
+        Slice<BookDto> books = bookRepository.findSliceBy(pageable);
+        withCategoryIds(books.getContent());
+        return PageResponse.fromSlice(books);
+    }
+
+    @Cacheable(cacheNames = BOOKS, key = "#id", sync = true)
     @Override
     public BookDto getById(Long id) {
         Book book = bookRepository.findById(id).orElseThrow(
@@ -37,29 +98,143 @@ public class BookServiceImpl implements BookService {
         return bookMapper.toDto(book);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public long getVersion(Long id) {
+        BookDto cached = cacheManager.getCache(BOOKS).get(id, BookDto.class);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+        return bookRepository.findVersionById(id).orElseThrow(
+                () -> new EntityNotFoundException("Can't find book by id: " + id)
+        );
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public Page<BookDto> search(BookSearchParameters searchParameters, Pageable pageable) {
+        if (isRanked(searchParameters, pageable)) {
+            List<Long> ids = findRankedIds(searchParameters);
+            return new PageImpl<>(findRankedPage(ids, pageable), pageable, ids.size());
+        }
+        Specification<Book> bookSpecification = bookSpecificationBuilder.build(searchParameters);
+        return toDtoPage(bookRepository.findAll(bookSpecification, withSearchSort(pageable)));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public PageResponse<BookDto> searchWithoutTotal(BookSearchParameters searchParameters,
+                                                    Pageable pageable) {
+        if (isRanked(searchParameters, pageable)) {
+            List<Long> ids = findRankedIds(searchParameters);
+            return PageResponse.fromSlice(new SliceImpl<>(findRankedPage(ids, pageable),
+                    pageable, pageable.getOffset() + pageable.getPageSize() < ids.size()));
+        }
         Specification<Book> bookSpecification = bookSpecificationBuilder.build(searchParameters);
-        return bookRepository.findAll(bookSpecification, pageable)
-                .map(bookMapper::toDto);
+        return PageResponse.fromSlice(toDtoSlice(
+                bookRepository.findSlice(bookSpecification, withSearchSort(pageable))));
     }
 
+    @CachePut(cacheNames = BOOKS, key = "#result.id")
     @Override
     public BookDto create(CreateBookRequestDto bookDto) {
-        Book book = bookMapper.toEntity(bookDto);
-        return bookMapper.toDto(bookRepository.save(book));
+        Book book = bookRepository.save(bookMapper.toEntity(bookDto));
+        bookSearchIndex.index(book);
+        bookCountCache.invalidate();
+        catalogGenerationService.increment();
+        return bookMapper.toDto(book);
     }
 
+    @CachePut(cacheNames = BOOKS, key = "#id")
     @Override
     public BookDto updateById(Long id, CreateBookRequestDto updatedBookDataDto) {
         Book existingBook = bookRepository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("Can't find book by id: " + id));
         bookMapper.updateBookFromDto(updatedBookDataDto, existingBook);
-        return bookMapper.toDto(bookRepository.save(existingBook));
+        Book updatedBook = bookRepository.saveAndFlush(existingBook);
+        bookSearchIndex.index(updatedBook);
+        catalogGenerationService.increment();
+        cacheInvalidationBus.publish(CacheInvalidation.evict(BOOKS, id));
+        return bookMapper.toDto(updatedBook);
     }
 
+    @CacheEvict(cacheNames = BOOKS, key = "#id")
     @Override
     public void deleteById(Long id) {
         bookRepository.deleteById(id);
+        bookSearchIndex.remove(id);
+        bookCountCache.invalidate();
+        catalogGenerationService.increment();
+        cacheInvalidationBus.publish(CacheInvalidation.evict(BOOKS, id));
+    }
+
+    private boolean isRanked(BookSearchParameters searchParameters, Pageable pageable) {
+        return pageable.getSort().isUnsorted()
+                && bookSpecificationBuilder.hasTextTerms(searchParameters)
+                && !bookSpecificationBuilder.hasFilters(searchParameters)
+                && bookSearchIndex.isReady();
+    }
+
+    private List<Long> findRankedIds(BookSearchParameters searchParameters) {
+        return bookSearchIndex.search(searchParameters.title(), searchParameters.author());
+    }
+
+    private List<BookDto> findRankedPage(List<Long> ids, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        List<Long> pageIds = ids.subList(from, Math.min(from + pageable.getPageSize(), ids.size()));
+        if (pageIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Book> books = bookRepository.findAllWithCategoriesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        return pageIds.stream()
+                .map(books::get)
+                .filter(Objects::nonNull)
+                .map(bookMapper::toDto)
+                .toList();
+    }
+
+    private Pageable withSearchSort(Pageable pageable) {
+        return pageable.getSort().isSorted() || pageable.isUnpaged()
+                ? pageable
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), SEARCH_SORT);
+    }
+
+    private Page<BookDto> toDtoPage(Page<Book> books) {
+        return new PageImpl<>(toDtos(books.getContent()), books.getPageable(),
+                books.getTotalElements());
+    }
+
+    private Slice<BookDto> toDtoSlice(Slice<Book> books) {
+        return new SliceImpl<>(toDtos(books.getContent()), books.getPageable(),
+                books.hasNext());
+    }
+
+    private List<BookDto> withCategoryIds(List<BookDto> books) {
+        if (books.isEmpty()) {
+            return books;
+        }
+        List<Long> ids = books.stream().map(BookDto::getId).toList();
+        Map<Long, List<Long>> categoryIds = bookRepository.findCategoryIdsByBookIdIn(ids)
+                .stream()
+                .collect(Collectors.groupingBy(BookCategoryId::bookId,
+                        Collectors.mapping(BookCategoryId::categoryId, Collectors.toList())));
+        books.forEach(book -> book.setCategoryIds(
+                categoryIds.getOrDefault(book.getId(), List.of())));
+        return books;
+    }
+
+    private List<BookDto> toDtos(List<Book> books) {
+        if (books.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = books.stream().map(Book::getId).toList();
+        Map<Long, Book> booksWithCategories = bookRepository.findAllWithCategoriesByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        return books.stream()
+                .map(book -> bookMapper.toDto(
+                        booksWithCategories.getOrDefault(book.getId(), book)))
+                .toList();
     }
 }
@@ -0,0 +1,5 @@
+package book.store.intro.service.book.exports;
+
+public interface BookExportService {
+    long exportBooks(BookExportWriter writer);
+}
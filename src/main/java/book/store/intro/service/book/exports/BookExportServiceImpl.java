@@ -0,0 +1,78 @@
+package book.store.intro.service.book.exports;
+
+import book.store.intro.exceptions.DataProcessingException;
+import book.store.intro.mapper.BookMapper;
+import book.store.intro.model.Book;
+import book.store.intro.repository.book.BookExportRepository;
+import book.store.intro.repository.book.BookRepository;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class BookExportServiceImpl implements BookExportService {
+    private final BookExportRepository bookExportRepository;
+    private final BookRepository bookRepository;
+    private final BookMapper bookMapper;
+    private final EntityManager entityManager;
+    private final int chunkSize;
+
+    public BookExportServiceImpl(BookExportRepository bookExportRepository,
+                                 BookRepository bookRepository, BookMapper bookMapper,
+                                 EntityManager entityManager,
+                                 @Value("${book.export.chunk-size}") int chunkSize) {
+        this.bookExportRepository = bookExportRepository;
+        this.bookRepository = bookRepository;
+        this.bookMapper = bookMapper;
+        this.entityManager = entityManager;
+        this.chunkSize = chunkSize;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public long exportBooks(BookExportWriter writer) {
+        long exported = 0;
+        List<Long> chunk = new ArrayList<>(chunkSize);
+        try (Stream<Long> ids = bookExportRepository.streamAllIds(chunkSize)) {
+            Iterator<Long> iterator = ids.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize) {
+                    exported += writeChunk(chunk, writer);
+                }
+            }
+            exported += writeChunk(chunk, writer);
+        }
+        return exported;
+    }
+
+    private int writeChunk(List<Long> chunk, BookExportWriter writer) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Book> books = bookRepository.findAllWithCategoriesByIdIn(chunk).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        List<Book> ordered = chunk.stream().map(books::get).filter(Objects::nonNull).toList();
+        try {
+            for (Book book : ordered) {
+                writer.write(bookMapper.toDto(book));
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new DataProcessingException("Can't write book export", e);
+        }
+        chunk.clear();
+        entityManager.clear();
+        return ordered.size();
+    }
+}
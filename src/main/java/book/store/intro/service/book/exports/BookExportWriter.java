@@ -0,0 +1,10 @@
+package book.store.intro.service.book.exports;
+
+import book.store.intro.dto.book.BookDto;
+import java.io.IOException;
+
+public interface BookExportWriter {
+    void write(BookDto book) throws IOException;
+
+    void flush() throws IOException;
+}
@@ -0,0 +1,37 @@
+package book.store.intro.service.book.exports;
+
+import book.store.intro.dto.book.BookDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class CsvBookExportWriter implements BookExportWriter {
+    private static final String CATEGORY_SEPARATOR = ";";
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .build();
+    private static final CsvSchema SCHEMA = CSV_MAPPER.schemaFor(BookDto.class)
+            .sortedBy("id", "title", "author", "isbn", "price", "description",
+                    "categoryIds", "coverImage")
+            .withHeader()
+            .withArrayElementSeparator(CATEGORY_SEPARATOR);
+
+    private final SequenceWriter rows;
+
+    public CsvBookExportWriter(OutputStream output) throws IOException {
+        this.rows = CSV_MAPPER.writer(SCHEMA).writeValues(output);
+    }
+
+    @Override
+    public void write(BookDto book) throws IOException {
+        rows.write(book);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        rows.flush();
+    }
+}
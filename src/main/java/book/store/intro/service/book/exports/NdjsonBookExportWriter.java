@@ -0,0 +1,27 @@
+package book.store.intro.service.book.exports;
+
+import book.store.intro.dto.book.BookDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class NdjsonBookExportWriter implements BookExportWriter {
+    private final OutputStream output;
+    private final ObjectMapper objectMapper;
+
+    public NdjsonBookExportWriter(OutputStream output, ObjectMapper objectMapper) {
+        this.output = output;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void write(BookDto book) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(book));
+        output.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        output.flush();
+    }
+}
@@ -0,0 +1,7 @@
+package book.store.intro.service.book.imports;
+
+import book.store.intro.dto.book.imports.BookImportRowError;
+import java.util.List;
+
+public record BookImportBatchResult(long created, long updated, List<BookImportRowError> errors) {
+}
@@ -0,0 +1,110 @@
+package book.store.intro.service.book.imports;
+
+import static book.store.intro.config.CacheConfig.BOOKS;
+
+import book.store.intro.cache.CacheInvalidation;
+import book.store.intro.cache.CacheInvalidationBus;
+import book.store.intro.dto.book.CreateBookRequestDto;
+import book.store.intro.dto.book.imports.BookImportRowError;
+import book.store.intro.mapper.BookMapper;
+import book.store.intro.model.Book;
+import book.store.intro.model.Category;
+import book.store.intro.repository.book.BookCountCache;
+import book.store.intro.repository.book.BookRepository;
+import book.store.intro.repository.book.search.BookSearchIndex;
+import book.store.intro.repository.category.CategoryRepository;
+import book.store.intro.service.catalog.CatalogGenerationService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Component
+public class BookImportBatchWriter {
+    private final BookRepository bookRepository;
+    private final CategoryRepository categoryRepository;
+    private final BookMapper bookMapper;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookCountCache bookCountCache;
+    private final CacheManager cacheManager;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final CatalogGenerationService catalogGenerationService;
+
+    @Transactional
+    public BookImportBatchResult write(List<BookImportRow> rows) {
+        Set<Long> existingCategoryIds = findExistingCategoryIds(rows);
+        Map<String, Book> booksByIsbn = bookRepository.findAllByIsbnInIncludingDeleted(
+                        rows.stream().map(BookImportRow::isbn).toList()).stream()
+                .collect(Collectors.toMap(Book::getIsbn, book -> book));
+        Map<String, Book> importedBooks = new LinkedHashMap<>();
+        Map<String, Long> importedRows = new HashMap<>();
+        List<BookImportRowError> errors = new ArrayList<>();
+        long created = 0;
+        long updated = 0;
+        for (BookImportRow row : rows) {
+            CreateBookRequestDto bookDto = row.book();
+            List<Long> missingCategoryIds = bookDto.getCategories().stream()
+                    .filter(id -> !existingCategoryIds.contains(id))
+                    .toList();
+            if (!missingCategoryIds.isEmpty()) {
+                errors.add(new BookImportRowError(row.row(), row.isbn(),
+                        List.of("Can't find categories by ids: " + missingCategoryIds)));
+                continue;
+            }
+            Long firstRow = importedRows.putIfAbsent(bookDto.getIsbn(), row.row());
+            if (firstRow != null) {
+                errors.add(new BookImportRowError(row.row(), row.isbn(),
+                        List.of("Duplicate ISBN, already imported from row " + firstRow)));
+                continue;
+            }
+            Book book = booksByIsbn.get(bookDto.getIsbn());
+            if (book == null) {
+                book = bookMapper.toEntity(bookDto);
+                booksByIsbn.put(book.getIsbn(), book);
+                created++;
+            } else {
+                bookMapper.updateBookFromDto(bookDto, book);
+                book.setDeleted(false);
+                updated++;
+            }
+            importedBooks.put(book.getIsbn(), book);
+        }
+        List<Book> savedBooks = bookRepository.saveAll(importedBooks.values());
+        bookSearchIndex.indexAll(savedBooks);
+        invalidateCaches(savedBooks, updated);
+        return new BookImportBatchResult(created, updated, errors);
+    }
+
+    private Set<Long> findExistingCategoryIds(List<BookImportRow> rows) {
+        Set<Long> categoryIds = rows.stream()
+                .flatMap(row -> row.book().getCategories().stream())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return categoryRepository.findAllById(categoryIds).stream()
+                .map(Category::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private void invalidateCaches(List<Book> savedBooks, long updated) {
+        if (savedBooks.isEmpty()) {
+            return;
+        }
+        bookCountCache.invalidate();
+        catalogGenerationService.increment();
+        if (updated > 0) {
+            Cache books = cacheManager.getCache(BOOKS);
+            savedBooks.forEach(book -> books.evict(book.getId()));
+            cacheInvalidationBus.publish(CacheInvalidation.clear(BOOKS));
+        }
+    }
+}
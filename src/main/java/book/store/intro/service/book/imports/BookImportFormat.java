@@ -0,0 +1,21 @@
+package book.store.intro.service.book.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
+import org.springframework.http.MediaType;
+
+public enum BookImportFormat {
+    CSV,
+    NDJSON;
+
+    public static BookImportFormat fromMediaType(MediaType mediaType) {
+        return MediaType.APPLICATION_NDJSON.isCompatibleWith(mediaType) ? NDJSON : CSV;
+    }
+
+    public BookImportReader open(InputStream input, ObjectMapper objectMapper) {
+        return switch (this) {
+            case CSV -> new CsvBookImportReader(input);
+            case NDJSON -> new NdjsonBookImportReader(input, objectMapper);
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package book.store.intro.service.book.imports;
+
+import java.io.Closeable;
+
+public interface BookImportReader extends Closeable {
+    BookImportRow next();
+}
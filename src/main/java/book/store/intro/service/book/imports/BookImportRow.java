@@ -0,0 +1,17 @@
+package book.store.intro.service.book.imports;
+
+import book.store.intro.dto.book.CreateBookRequestDto;
+
+public record BookImportRow(long row, CreateBookRequestDto book, String error) {
+    public static BookImportRow parsed(long row, CreateBookRequestDto book) {
+        return new BookImportRow(row, book, null);
+    }
+
+    public static BookImportRow unparseable(long row, String error) {
+        return new BookImportRow(row, null, error);
+    }
+
+    public String isbn() {
+        return book == null ? null : book.getIsbn();
+    }
+}
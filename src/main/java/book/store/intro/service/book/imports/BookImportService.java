@@ -0,0 +1,11 @@
+package book.store.intro.service.book.imports;
+
+import book.store.intro.dto.book.imports.BookImportEvent;
+import book.store.intro.dto.book.imports.BookImportProgress;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+public interface BookImportService {
+    BookImportProgress importBooks(InputStream input, BookImportFormat format,
+                                   Consumer<BookImportEvent> listener);
+}
@@ -0,0 +1,116 @@
+package book.store.intro.service.book.imports;
+
+import book.store.intro.dto.book.CreateBookRequestDto;
+import book.store.intro.dto.book.imports.BookImportEvent;
+import book.store.intro.dto.book.imports.BookImportProgress;
+import book.store.intro.dto.book.imports.BookImportRowError;
+import book.store.intro.exceptions.DataProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+@Service
+public class BookImportServiceImpl implements BookImportService {
+    private final BookImportBatchWriter batchWriter;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public BookImportServiceImpl(BookImportBatchWriter batchWriter, Validator validator,
+                                 ObjectMapper objectMapper,
+                                 @Value("${book.import.batch-size}") int batchSize) {
+        this.batchWriter = batchWriter;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public BookImportProgress importBooks(InputStream input, BookImportFormat format,
+                                          Consumer<BookImportEvent> listener) {
+        Progress progress = new Progress(listener);
+        List<BookImportRow> batch = new ArrayList<>(batchSize);
+        try (BookImportReader reader = format.open(input, objectMapper)) {
+            for (BookImportRow row = reader.next(); row != null; row = reader.next()) {
+                progress.processed++;
+                List<String> errors = validate(row);
+                if (!errors.isEmpty()) {
+                    progress.fail(new BookImportRowError(row.row(), row.isbn(), errors));
+                    continue;
+                }
+                batch.add(row);
+                if (batch.size() == batchSize) {
+                    write(batch, progress);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new DataProcessingException("Can't close book import input", e);
+        }
+        if (!batch.isEmpty()) {
+            write(batch, progress);
+        }
+        BookImportProgress summary = progress.snapshot(true);
+        listener.accept(summary);
+        return summary;
+    }
+
+    private List<String> validate(BookImportRow row) {
+        if (row.error() != null) {
+            return List.of(row.error());
+        }
+        return validator.validate(row.book()).stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(this::toMessage)
+                .toList();
+    }
+
+    private String toMessage(ConstraintViolation<CreateBookRequestDto> violation) {
+        return violation.getPropertyPath() + " " + violation.getMessage();
+    }
+
+    private void write(List<BookImportRow> batch, Progress progress) {
+        try {
+            BookImportBatchResult result = batchWriter.write(batch);
+            progress.created += result.created();
+            progress.updated += result.updated();
+            result.errors().forEach(progress::fail);
+        } catch (DataAccessException e) {
+            String message = "Batch rejected by the database: " + e.getMostSpecificCause()
+                    .getMessage();
+            batch.forEach(row -> progress.fail(
+                    new BookImportRowError(row.row(), row.isbn(), List.of(message))));
+        }
+        progress.listener.accept(progress.snapshot(false));
+    }
+
+    private static class Progress {
+        private final Consumer<BookImportEvent> listener;
+        private long processed;
+        private long created;
+        private long updated;
+        private long failed;
+
+        private Progress(Consumer<BookImportEvent> listener) {
+            this.listener = listener;
+        }
+
+        private void fail(BookImportRowError error) {
+            failed++;
+            listener.accept(error);
+        }
+
+        private BookImportProgress snapshot(boolean completed) {
+            return new BookImportProgress(processed, created, updated, failed, completed);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package book.store.intro.service.book.imports;
+
+import book.store.intro.dto.book.CreateBookRequestDto;
+import book.store.intro.exceptions.DataProcessingException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import java.io.IOException;
+import java.io.InputStream;
+
+public class CsvBookImportReader implements BookImportReader {
+    private static final String CATEGORY_SEPARATOR = ";";
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private static final CsvSchema SCHEMA = CsvSchema.emptySchema()
+            .withHeader()
+            .withArrayElementSeparator(CATEGORY_SEPARATOR);
+
+    private final MappingIterator<CreateBookRequestDto> rows;
+    private long row;
+    private boolean skippingFailedRow;
+
+    public CsvBookImportReader(InputStream input) {
+        try {
+            this.rows = CSV_MAPPER.readerFor(CreateBookRequestDto.class)
+                    .with(SCHEMA)
+                    .readValues(input);
+        } catch (IOException e) {
+            throw new DataProcessingException("Can't read CSV header", e);
+        }
+    }
+
+    @Override
+    public BookImportRow next() {
+        try {
+            while (true) {
+                try {
+                    if (!rows.hasNextValue()) {
+                        return null;
+                    }
+                    break;
+                } catch (JsonProcessingException e) {
+                    if (!skippingFailedRow) {
+                        row++;
+                        skippingFailedRow = true;
+                        return BookImportRow.unparseable(row, e.getOriginalMessage());
+                    }
+                }
+            }
+            skippingFailedRow = false;
+            row++;
+            return BookImportRow.parsed(row, rows.nextValue());
+        } catch (JsonProcessingException e) {
+            skippingFailedRow = true;
+            return BookImportRow.unparseable(row, e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new DataProcessingException("Can't read CSV row " + row, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        rows.close();
+    }
+}
@@ -0,0 +1,47 @@
+package book.store.intro.service.book.imports;
+
+import book.store.intro.dto.book.CreateBookRequestDto;
+import book.store.intro.exceptions.DataProcessingException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+public class NdjsonBookImportReader implements BookImportReader {
+    private final ObjectMapper objectMapper;
+    private final BufferedReader reader;
+    private long row;
+
+    public NdjsonBookImportReader(InputStream input, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public BookImportRow next() {
+        try {
+            String line = reader.readLine();
+            while (line != null && line.isBlank()) {
+                line = reader.readLine();
+            }
+            if (line == null) {
+                return null;
+            }
+            row++;
+            return BookImportRow.parsed(row,
+                    objectMapper.readValue(line, CreateBookRequestDto.class));
+        } catch (JsonProcessingException e) {
+            return BookImportRow.unparseable(row, e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new DataProcessingException("Can't read NDJSON row " + row, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,7 @@
+package book.store.intro.service.catalog;
+
+public interface CatalogGenerationService {
+    long getCurrent();
+
+    void increment();
+}
@@ -0,0 +1,24 @@
+package book.store.intro.service.catalog;
+
+import book.store.intro.repository.catalog.CatalogGenerationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@RequiredArgsConstructor
+@Service
+public class CatalogGenerationServiceImpl implements CatalogGenerationService {
+    private final CatalogGenerationRepository catalogGenerationRepository;
+
+    @Transactional(readOnly = true)
+    @Override
+    public long getCurrent() {
+        return catalogGenerationRepository.findGeneration();
+    }
+
+    @Override
+    public void increment() {
+        catalogGenerationRepository.increment();
+    }
+}
@@ -3,16 +3,25 @@ package book.store.intro.service.category;
 import book.store.intro.dto.book.BookWithoutCategoriesDto;
 import book.store.intro.dto.category.CategoryDto;
 import book.store.intro.dto.category.CreateCategoryRequestDto;
+import book.store.intro.dto.pagination.CursorPageDto;
+import book.store.intro.model.PageResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface CategoryService {
     Page<CategoryDto> getAll(Pageable pageable);
 
+    PageResponse<CategoryDto> getAllWithoutTotal(Pageable pageable);
+
     CategoryDto getById(Long id);
 
+    long getVersion(Long id);
+
     Page<BookWithoutCategoriesDto> getBooksByCategoryId(Pageable pageable, Long id);
 
+    CursorPageDto<BookWithoutCategoriesDto> getBooksByCategoryId(Long id, String cursor,
+                                                                 int size);
+
     CategoryDto create(CreateCategoryRequestDto categoryDto);
 
     CategoryDto updateById(Long id, CreateCategoryRequestDto categoryDto);
@@ -1,20 +1,39 @@
 package book.store.intro.service.category;
 
+import static book.store.intro.config.CacheConfig.BOOKS;
+import static book.store.intro.config.CacheConfig.CATEGORIES;
+import static book.store.intro.config.CacheConfig.CATEGORY_PAGES;
+
+import book.store.intro.cache.CacheInvalidation;
+import book.store.intro.cache.CacheInvalidationBus;
 import book.store.intro.dto.book.BookWithoutCategoriesDto;
 import book.store.intro.dto.category.CategoryDto;
 import book.store.intro.dto.category.CreateCategoryRequestDto;
+import book.store.intro.dto.pagination.CursorPageDto;
 import book.store.intro.exceptions.EntityNotFoundException;
 import book.store.intro.mapper.BookMapper;
 import book.store.intro.mapper.CategoryMapper;
 import book.store.intro.model.Book;
 import book.store.intro.model.Category;
+import book.store.intro.model.PageResponse;
+import book.store.intro.pagination.BookKeyset;
+import book.store.intro.pagination.CursorCodec;
 import book.store.intro.repository.book.BookRepository;
 import book.store.intro.repository.category.CategoryRepository;
+import book.store.intro.service.catalog.CatalogGenerationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Transactional
 @RequiredArgsConstructor
@@ -24,13 +43,24 @@ public class CategoryServiceImpl implements CategoryService {
     private final CategoryMapper categoryMapper;
     private final BookRepository bookRepository;
     private final BookMapper bookMapper;
+    private final CursorCodec cursorCodec;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final CatalogGenerationService catalogGenerationService;
+    private final CacheManager cacheManager;
 
+    @Cacheable(cacheNames = CATEGORY_PAGES, key = "#pageable", sync = true)
     @Override
     public Page<CategoryDto> getAll(Pageable pageable) {
-        return categoryRepository.findAll(pageable)
-                .map(categoryMapper::toDto);
+        return categoryRepository.findPageBy(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public PageResponse<CategoryDto> getAllWithoutTotal(Pageable pageable) {
+        return PageResponse.fromSlice(categoryRepository.findSliceBy(pageable));
     }
 
+    @Cacheable(cacheNames = CATEGORIES, key = "#id", sync = true)
     @Override
     public CategoryDto getById(Long id) {
         Category category = categoryRepository.findById(id).orElseThrow(
@@ -39,32 +69,85 @@ public class CategoryServiceImpl implements CategoryService {
         return categoryMapper.toDto(category);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public long getVersion(Long id) {
+        CategoryDto cached = cacheManager.getCache(CATEGORIES).get(id, CategoryDto.class);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+        return categoryRepository.findVersionById(id).orElseThrow(
+                () -> new EntityNotFoundException("Can't find category by id: " + id)
+        );
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public Page<BookWithoutCategoriesDto> getBooksByCategoryId(Pageable pageable, Long id) {
-        Page<Book> books = bookRepository.findAllByCategoryId(pageable, id);
+        Page<BookWithoutCategoriesDto> books = bookRepository.findAllByCategoryId(pageable, id);
 
         if (books.isEmpty()) {
             throw new EntityNotFoundException("Can't find books for category id: " + id);
         }
-        return books.map(bookMapper::toBookWithoutCategoriesDto);
+        return books;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageDto<BookWithoutCategoriesDto> getBooksByCategoryId(Long id, String cursor,
+                                                                        int size) {
+        ScrollPosition position = cursorCodec.position(cursor, BookKeyset.class);
+        Window<Book> books = bookRepository.findAllByCategoriesId(
+                id, position, cursorCodec.limit(size), BookKeyset.SORT);
+
+        if (books.isEmpty() && !StringUtils.hasText(cursor)) {
+            throw new EntityNotFoundException("Can't find books for category id: " + id);
+        }
+        return cursorCodec.page(books, BookKeyset::of, content -> content.stream()
+                .map(bookMapper::toBookWithoutCategoriesDto)
+                .toList());
     }
 
+    @Caching(
+            put = @CachePut(cacheNames = CATEGORIES, key = "#result.id"),
+            evict = @CacheEvict(cacheNames = CATEGORY_PAGES, allEntries = true)
+    )
     @Override
     public CategoryDto create(CreateCategoryRequestDto categoryDto) {
         Category category = categoryMapper.toEntity(categoryDto);
-        return categoryMapper.toDto(categoryRepository.save(category));
+        Category savedCategory = categoryRepository.save(category);
+        catalogGenerationService.increment();
+        cacheInvalidationBus.publish(CacheInvalidation.clear(CATEGORY_PAGES));
+        return categoryMapper.toDto(savedCategory);
     }
 
+    @Caching(
+            put = @CachePut(cacheNames = CATEGORIES, key = "#id"),
+            evict = @CacheEvict(cacheNames = CATEGORY_PAGES, allEntries = true)
+    )
     @Override
     public CategoryDto updateById(Long id, CreateCategoryRequestDto updatedCategoryDataDto) {
         Category existingCategory = categoryRepository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("Can't find category by id: " + id));
         categoryMapper.updateCategoryFromDto(updatedCategoryDataDto, existingCategory);
-        return categoryMapper.toDto(categoryRepository.save(existingCategory));
+        Category updatedCategory = categoryRepository.saveAndFlush(existingCategory);
+        catalogGenerationService.increment();
+        cacheInvalidationBus.publish(CacheInvalidation.evict(CATEGORIES, id),
+                CacheInvalidation.clear(CATEGORY_PAGES));
+        return categoryMapper.toDto(updatedCategory);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CATEGORIES, key = "#id"),
+            @CacheEvict(cacheNames = CATEGORY_PAGES, allEntries = true),
+            @CacheEvict(cacheNames = BOOKS, allEntries = true)
+    })
     @Override
     public void deleteById(Long id) {
         categoryRepository.deleteById(id);
+        bookRepository.incrementVersionByCategoryId(id);
+        catalogGenerationService.increment();
+        cacheInvalidationBus.publish(CacheInvalidation.evict(CATEGORIES, id),
+                CacheInvalidation.clear(CATEGORY_PAGES), CacheInvalidation.clear(BOOKS));
     }
 }
@@ -4,6 +4,8 @@ import book.store.intro.dto.order.CreateOrderRequestDto;
 import book.store.intro.dto.order.OrderDto;
 import book.store.intro.dto.order.UpdateOrderStatusRequestDto;
 import book.store.intro.dto.order.item.OrderItemDto;
+import book.store.intro.dto.pagination.CursorPageDto;
+import book.store.intro.model.PageResponse;
 import book.store.intro.model.User;
 import java.util.List;
 import org.springframework.data.domain.Page;
@@ -14,6 +16,10 @@ public interface OrderService {
 
     Page<OrderDto> getAllOrders(Pageable pageable, Long userId);
 
+    CursorPageDto<OrderDto> getAllOrders(Long userId, String cursor, int size);
+
+    PageResponse<OrderDto> getAllOrdersWithoutTotal(Pageable pageable, Long userId);
+
     List<OrderItemDto> getOrderItems(Long orderId);
 
     OrderItemDto getOrderItemInfo(Long orderId, Long itemId);
@@ -4,26 +4,30 @@ import book.store.intro.dto.order.CreateOrderRequestDto;
 import book.store.intro.dto.order.OrderDto;
 import book.store.intro.dto.order.UpdateOrderStatusRequestDto;
 import book.store.intro.dto.order.item.OrderItemDto;
+import book.store.intro.dto.pagination.CursorPageDto;
 import book.store.intro.exceptions.EntityNotFoundException;
 import book.store.intro.exceptions.OrderProcessingException;
 import book.store.intro.mapper.OrderItemMapper;
 import book.store.intro.mapper.OrderMapper;
-import book.store.intro.model.CartItem;
 import book.store.intro.model.Order;
 import book.store.intro.model.Order.Status;
 import book.store.intro.model.OrderItem;
-import book.store.intro.model.ShoppingCart;
+import book.store.intro.model.PageResponse;
 import book.store.intro.model.User;
+import book.store.intro.pagination.CursorCodec;
+import book.store.intro.pagination.OrderKeyset;
+import book.store.intro.repository.book.BookRepository;
 import book.store.intro.repository.order.OrderRepository;
-import book.store.intro.service.shopping.cart.ShoppingCartService;
+import book.store.intro.repository.shopping.cart.item.CartItemRepository;
+import book.store.intro.repository.shopping.cart.item.CheckoutItem;
 import java.math.BigDecimal;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,34 +35,56 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 @Service
 public class OrderServiceImpl implements OrderService {
-    private final ShoppingCartService shoppingCartService;
+    private final CartItemRepository cartItemRepository;
+    private final BookRepository bookRepository;
     private final OrderItemMapper orderItemMapper;
     private final OrderRepository orderRepository;
     private final OrderMapper orderMapper;
+    private final CursorCodec cursorCodec;
 
     @Override
     public OrderDto placeOrder(CreateOrderRequestDto requestDto, User user) {
-        ShoppingCart shoppingCart = shoppingCartService.findShoppingCartByUserId(user.getId());
-        if (shoppingCart.getCartItems() == null || shoppingCart.getCartItems().isEmpty()) {
+        List<CheckoutItem> checkoutItems =
+                cartItemRepository.findCheckoutItemsByShoppingCartId(user.getId());
+        if (checkoutItems.isEmpty()) {
             throw new OrderProcessingException("Shopping cart is empty");
         }
-        Set<CartItem> cartItems = new LinkedHashSet<>(shoppingCart.getCartItems());
         Order order = createOrderWithoutItems(requestDto, user);
-        cartItems.forEach(cartItem -> {
-            OrderItem orderItem = orderItemMapper.cartItemToOrderItem(cartItem, order);
-            order.getOrderItems().add(orderItem);
-            order.setTotal(order.getTotal().add(
-                    orderItem.getPrice().multiply(BigDecimal.valueOf(orderItem.getQuantity()))));
+        checkoutItems.forEach(checkoutItem -> {
+            order.getOrderItems().add(createOrderItem(order, checkoutItem));
+            order.setTotal(order.getTotal().add(checkoutItem.subtotal()));
         });
-        return orderMapper.toDto(orderRepository.save(order));
+        Order savedOrder = orderRepository.save(order);
+        cartItemRepository.deleteAllByShoppingCartId(user.getId());
+        return orderMapper.toDto(savedOrder);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Page<OrderDto> getAllOrders(Pageable pageable, Long userId) {
         return orderRepository.findAllByUserId(pageable, userId)
                 .map(orderMapper::toDto);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageDto<OrderDto> getAllOrders(Long userId, String cursor, int size) {
+        ScrollPosition position = cursorCodec.position(cursor, OrderKeyset.class);
+        Window<Order> orders = orderRepository.findAllByUserId(
+                userId, position, cursorCodec.limit(size), OrderKeyset.SORT);
+        return cursorCodec.page(orders, OrderKeyset::of, content -> content.stream()
+                .map(orderMapper::toDto)
+                .toList());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public PageResponse<OrderDto> getAllOrdersWithoutTotal(Pageable pageable, Long userId) {
+        return PageResponse.fromSlice(orderRepository.findSliceByUserId(userId, pageable)
+                .map(orderMapper::toDto));
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public List<OrderItemDto> getOrderItems(Long orderId) {
         Order order = getOrderByIdWithOrderItems(orderId);
@@ -67,6 +93,7 @@ public class OrderServiceImpl implements OrderService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     @Override
     public OrderItemDto getOrderItemInfo(Long orderId, Long itemId) {
         Order order = getOrderByIdWithOrderItems(orderId);
@@ -98,6 +125,15 @@ public class OrderServiceImpl implements OrderService {
         return order;
     }
 
+    private OrderItem createOrderItem(Order order, CheckoutItem checkoutItem) {
+        OrderItem orderItem = new OrderItem();
+        orderItem.setOrder(order);
+        orderItem.setBook(bookRepository.getReferenceById(checkoutItem.bookId()));
+        orderItem.setQuantity(checkoutItem.quantity());
+        orderItem.setPrice(checkoutItem.price());
+        return orderItem;
+    }
+
     private Order getOrderByIdWithOrderItems(Long orderId) {
         return orderRepository.findByIdWithOrderItems(orderId).orElseThrow(
                 () -> new EntityNotFoundException("Can't find order with id: " + orderId));
@@ -0,0 +1,38 @@
+package book.store.intro.service.shopping.cart;
+
+class CartItemChange {
+    private Integer quantity;
+    private int increment;
+    private boolean removed;
+
+    void add(int amount) {
+        if (removed) {
+            removed = false;
+            quantity = amount;
+        } else if (quantity != null) {
+            quantity += amount;
+        } else {
+            increment += amount;
+        }
+    }
+
+    void update(int amount) {
+        removed = false;
+        quantity = amount;
+        increment = 0;
+    }
+
+    void remove() {
+        removed = true;
+        quantity = null;
+        increment = 0;
+    }
+
+    boolean isRemoved() {
+        return removed;
+    }
+
+    int applyTo(int currentQuantity) {
+        return quantity != null ? quantity : currentQuantity + increment;
+    }
+}
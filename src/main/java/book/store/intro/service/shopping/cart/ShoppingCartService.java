@@ -2,8 +2,8 @@ package book.store.intro.service.shopping.cart;
 
 import book.store.intro.dto.shopping.cart.AddItemToCartRequestDto;
 import book.store.intro.dto.shopping.cart.ShoppingCartDto;
+import book.store.intro.dto.shopping.cart.UpdateCartRequestDto;
 import book.store.intro.dto.shopping.cart.UpdateItemInCartRequestDto;
-import book.store.intro.model.ShoppingCart;
 import book.store.intro.model.User;
 
 public interface ShoppingCartService {
@@ -13,9 +13,9 @@ public interface ShoppingCartService {
 
     ShoppingCartDto updateItemInCart(UpdateItemInCartRequestDto requestDto, Long id, Long userId);
 
-    void deleteItemById(Long id);
+    ShoppingCartDto updateCart(UpdateCartRequestDto requestDto, Long userId);
 
-    ShoppingCart findShoppingCartByUserId(Long userId);
+    void deleteItemById(Long id);
 
     void createShoppingCartForUser(User user);
 }
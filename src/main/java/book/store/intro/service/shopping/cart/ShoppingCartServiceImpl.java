@@ -1,7 +1,9 @@
 package book.store.intro.service.shopping.cart;
 
 import book.store.intro.dto.shopping.cart.AddItemToCartRequestDto;
+import book.store.intro.dto.shopping.cart.CartItemOperationDto;
 import book.store.intro.dto.shopping.cart.ShoppingCartDto;
+import book.store.intro.dto.shopping.cart.UpdateCartRequestDto;
 import book.store.intro.dto.shopping.cart.UpdateItemInCartRequestDto;
 import book.store.intro.exceptions.EntityNotFoundException;
 import book.store.intro.mapper.ShoppingCartMapper;
@@ -12,6 +14,12 @@ import book.store.intro.model.User;
 import book.store.intro.repository.book.BookRepository;
 import book.store.intro.repository.shopping.cart.ShoppingCartRepository;
 import book.store.intro.repository.shopping.cart.item.CartItemRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,43 +33,58 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
     private final CartItemRepository cartItemRepository;
     private final BookRepository bookRepository;
 
+    @Transactional(readOnly = true)
     @Override
     public ShoppingCartDto getCartInfo(Long userId) {
-        ShoppingCart shoppingCart = findShoppingCartByUserId(userId);
+        ShoppingCart shoppingCart = shoppingCartRepository.findWithCartItemsById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("Can't find shopping cart "
+                        + "for user"));
         return shoppingCartMapper.toDto(shoppingCart);
     }
 
     @Override
     public ShoppingCartDto addItemToCart(AddItemToCartRequestDto requestDto, Long userId) {
-        ShoppingCart shoppingCart = findShoppingCartByUserId(userId);
-        Book book = bookRepository.findById(requestDto.bookId()).orElseThrow(
-                () -> new EntityNotFoundException("Can't find book by id: " + requestDto.bookId()));
-        CartItem existingCartItem = shoppingCart.getCartItems().stream()
-                .filter(item -> item.getBook().getId().equals(requestDto.bookId()))
-                .findFirst()
-                .orElse(null);
-        if (existingCartItem == null) {
-            CartItem cartItem = createCartItem(shoppingCart, book, requestDto.quantity());
-            shoppingCart.getCartItems().add(cartItem);
-        } else {
-            existingCartItem.setQuantity(existingCartItem.getQuantity() + requestDto.quantity());
-            cartItemRepository.save(existingCartItem);
+        Long bookId = requestDto.bookId();
+        if (!bookRepository.existsById(bookId)) {
+            throw new EntityNotFoundException("Can't find book by id: " + bookId);
         }
-        return shoppingCartMapper.toDto(shoppingCart);
+        ShoppingCart shoppingCart = shoppingCartRepository.findForUpdateById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("Can't find shopping cart "
+                        + "for user"));
+        if (cartItemRepository.incrementQuantity(userId, bookId, requestDto.quantity()) == 0) {
+            createCartItem(shoppingCart, bookRepository.getReferenceById(bookId),
+                    requestDto.quantity());
+        }
+        return getCartInfo(userId);
     }
 
     @Override
     public ShoppingCartDto updateItemInCart(
             UpdateItemInCartRequestDto requestDto, Long id, Long userId) {
-        ShoppingCart shoppingCart = findShoppingCartByUserId(userId);
-        CartItem existingCartItem = shoppingCart.getCartItems().stream()
-                .filter(item -> item.getId().equals(id))
-                .findFirst()
-                .orElseThrow(
-                        () -> new EntityNotFoundException("Can't find cart item with id: " + id));
-        existingCartItem.setQuantity(requestDto.quantity());
-        cartItemRepository.save(existingCartItem);
-        return shoppingCartMapper.toDto(shoppingCart);
+        if (cartItemRepository.updateQuantity(id, userId, requestDto.quantity()) == 0) {
+            throw new EntityNotFoundException("Can't find cart item with id: " + id);
+        }
+        return getCartInfo(userId);
+    }
+
+    @Override
+    public ShoppingCartDto updateCart(UpdateCartRequestDto requestDto, Long userId) {
+        ShoppingCart shoppingCart = shoppingCartRepository.findForUpdateById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("Can't find shopping cart "
+                        + "for user"));
+        Map<Long, CartItemChange> changes = collectChanges(requestDto.operations());
+        List<Long> removedBookIds = changes.entrySet().stream()
+                .filter(entry -> entry.getValue().isRemoved())
+                .map(Map.Entry::getKey)
+                .toList();
+        if (!removedBookIds.isEmpty()) {
+            cartItemRepository.deleteAllByShoppingCartIdAndBookIdIn(userId, removedBookIds);
+            removedBookIds.forEach(changes::remove);
+        }
+        if (!changes.isEmpty()) {
+            applyChanges(shoppingCart, changes);
+        }
+        return getCartInfo(userId);
     }
 
     @Override
@@ -76,11 +99,47 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
         cartItemRepository.deleteById(id);
     }
 
-    @Override
-    public ShoppingCart findShoppingCartByUserId(Long userId) {
-        return shoppingCartRepository.findById(userId).orElseThrow(
-                () -> new EntityNotFoundException("Can't find shopping cart "
-                        + "for user"));
+    private Map<Long, CartItemChange> collectChanges(List<CartItemOperationDto> operations) {
+        Map<Long, CartItemChange> changes = new LinkedHashMap<>();
+        for (CartItemOperationDto operation : operations) {
+            CartItemChange change = changes.computeIfAbsent(
+                    operation.bookId(), bookId -> new CartItemChange());
+            switch (CartItemOperationDto.Type.valueOf(operation.type())) {
+                case ADD -> change.add(operation.quantity());
+                case UPDATE -> change.update(operation.quantity());
+                case REMOVE -> change.remove();
+                default -> throw new IllegalStateException(
+                        "Unexpected cart operation: " + operation.type());
+            }
+        }
+        return changes;
+    }
+
+    private void applyChanges(ShoppingCart shoppingCart, Map<Long, CartItemChange> changes) {
+        List<CartItem> existingCartItems = cartItemRepository
+                .findAllForUpdateByShoppingCartIdAndBookIdIn(shoppingCart.getId(),
+                        changes.keySet());
+        for (CartItem cartItem : existingCartItems) {
+            CartItemChange change = changes.remove(cartItem.getBook().getId());
+            cartItem.setQuantity(change.applyTo(cartItem.getQuantity()));
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+        Set<Long> missingBookIds = new HashSet<>(changes.keySet());
+        bookRepository.findIdsByIdIn(changes.keySet()).forEach(missingBookIds::remove);
+        if (!missingBookIds.isEmpty()) {
+            throw new EntityNotFoundException("Can't find books by ids: " + missingBookIds);
+        }
+        List<CartItem> newCartItems = new ArrayList<>(changes.size());
+        changes.forEach((bookId, change) -> {
+            CartItem cartItem = new CartItem();
+            cartItem.setShoppingCart(shoppingCart);
+            cartItem.setBook(bookRepository.getReferenceById(bookId));
+            cartItem.setQuantity(change.applyTo(0));
+            newCartItems.add(cartItem);
+        });
+        cartItemRepository.saveAll(newCartItems);
     }
 
     private CartItem createCartItem(ShoppingCart shoppingCart, Book book, int quantity) {
@@ -1,5 +1,6 @@
 package book.store.intro.service.user;
 
+import book.store.intro.dto.user.UpdateUserRolesRequestDto;
 import book.store.intro.dto.user.UserRegistrationRequestDto;
 import book.store.intro.dto.user.UserResponseDto;
 import book.store.intro.exceptions.EntityNotFoundException;
@@ -10,7 +11,10 @@ import book.store.intro.model.Role.RoleName;
 import book.store.intro.model.User;
 import book.store.intro.repository.role.RoleRepository;
 import book.store.intro.repository.user.UserRepository;
+import book.store.intro.security.UserPrincipalCacheInvalidator;
 import book.store.intro.service.shopping.cart.ShoppingCartService;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -26,6 +30,7 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final RoleRepository roleRepository;
     private final ShoppingCartService shoppingCartService;
+    private final UserPrincipalCacheInvalidator userPrincipalCacheInvalidator;
 
     @Override
     public UserResponseDto register(UserRegistrationRequestDto requestDto) {
@@ -38,6 +43,20 @@ public class UserServiceImpl implements UserService {
         return userMapper.toDto(user);
     }
 
+    @Override
+    public UserResponseDto updateRoles(Long id, UpdateUserRolesRequestDto requestDto) {
+        User user = userRepository.findById(id).orElseThrow(
+                () -> new EntityNotFoundException("Can't find user by id: " + id)
+        );
+        List<Role> roles = roleRepository.findAllByRoleIn(requestDto.roles());
+        if (roles.size() != requestDto.roles().size()) {
+            throw new EntityNotFoundException("Can't find roles: " + requestDto.roles());
+        }
+        user.setRoles(new HashSet<>(roles));
+        userPrincipalCacheInvalidator.invalidate(id);
+        return userMapper.toDto(user);
+    }
+
     private User createUser(UserRegistrationRequestDto requestDto) {
         User user = userMapper.toEntity(requestDto);
         user.setPassword(passwordEncoder.encode(requestDto.getPassword()));
@@ -0,0 +1,56 @@
+package book.store.intro;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("virtual-threads")
+public class VirtualThreadsProfileTests {
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Test
+    @DisplayName("""
+            virtual-threads profile:
+             Async tasks should run on virtual threads
+            """)
+    void applicationTaskExecutor_VirtualThreadsProfile_RunsOnVirtualThread() throws Exception {
+        //When
+        boolean virtual = applicationTaskExecutor
+                .submitCompletable(() -> Thread.currentThread().isVirtual())
+                .get(5, TimeUnit.SECONDS);
+
+        //Then
+        assertTrue(virtual);
+    }
+
+    @Test
+    @DisplayName("""
+            virtual-threads profile:
+             Scheduled tasks should run on virtual threads
+            """)
+    void taskScheduler_VirtualThreadsProfile_RunsOnVirtualThread() throws Exception {
+        //Given
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+
+        //When
+        taskScheduler.schedule(() -> virtual.complete(Thread.currentThread().isVirtual()),
+                Instant.now());
+
+        //Then
+        assertTrue(virtual.get(5, TimeUnit.SECONDS));
+    }
+}
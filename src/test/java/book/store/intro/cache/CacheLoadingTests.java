@@ -0,0 +1,105 @@
+package book.store.intro.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import book.store.intro.exceptions.EntityNotFoundException;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CacheLoadingTests {
+    private static final String KEY = "key";
+    private static final int CALLERS = 16;
+
+    private final AsyncCache<String, String> cache = Caffeine.newBuilder().buildAsync();
+
+    @Test
+    @DisplayName("""
+            get():
+             Should run the loader on the calling thread
+            """)
+    void get_MissingKey_LoadsOnCallingThread() {
+        //Given
+        Thread caller = Thread.currentThread();
+        List<Thread> loaderThreads = new ArrayList<>();
+
+        //When
+        String value = CacheLoading.get(cache, KEY, () -> {
+            loaderThreads.add(Thread.currentThread());
+            return "value";
+        });
+
+        //Then
+        assertEquals("value", value);
+        assertEquals(List.of(caller), loaderThreads);
+    }
+
+    @Test
+    @DisplayName("""
+            get():
+             Concurrent callers for the same key should share a single load
+            """)
+    void get_ConcurrentCallers_LoadsOnce() throws Exception {
+        //Given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+
+        //When
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> CacheLoading.get(cache, KEY, () -> {
+                    loads.incrementAndGet();
+                    awaitQuietly(release);
+                    return "value";
+                })));
+            }
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("value", result.get());
+            }
+        }
+
+        //Then
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("""
+            get():
+             A failed load should rethrow the loader exception and not be cached
+            """)
+    void get_LoaderThrows_RethrowsAndLoadsAgain() {
+        //Given
+        EntityNotFoundException failure = new EntityNotFoundException("Can't find value");
+
+        //When
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> CacheLoading.get(cache, KEY, () -> {
+                    throw failure;
+                }));
+        String value = CacheLoading.get(cache, KEY, () -> "value");
+
+        //Then
+        assertSame(failure, exception);
+        assertEquals("value", value);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
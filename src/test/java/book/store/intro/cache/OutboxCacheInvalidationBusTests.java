@@ -0,0 +1,124 @@
+package book.store.intro.cache;
+
+import static book.store.intro.config.CacheConfig.BOOKS;
+import static book.store.intro.config.CacheConfig.CATEGORY_PAGES;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import book.store.intro.model.CacheInvalidationEvent;
+import book.store.intro.repository.cache.CacheInvalidationEventRepository;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxCacheInvalidationBusTests {
+    private static final int BATCH_SIZE = 10;
+    private static final long GAP_TOLERANCE = 5;
+    private static final String OTHER_NODE = "other-node";
+
+    @Mock
+    private CacheInvalidationEventRepository eventRepository;
+
+    @Mock
+    private LocalCacheInvalidator localCacheInvalidator;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private OutboxCacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new OutboxCacheInvalidationBus(eventRepository, localCacheInvalidator,
+                applicationEventPublisher, BATCH_SIZE, GAP_TOLERANCE, Duration.ofHours(1));
+        when(eventRepository.findMaxId()).thenReturn(0L);
+        bus.start();
+    }
+
+    @Test
+    @DisplayName("""
+            publish():
+             Should store one outbox event per invalidation tagged with this node
+            """)
+    void publish_Invalidations_SavesEventsFromThisNode() {
+        //When
+        bus.publish(CacheInvalidation.evict(BOOKS, 1L), CacheInvalidation.clear(CATEGORY_PAGES));
+
+        //Then
+        verify(eventRepository).saveAll(argThat(events -> {
+            List<CacheInvalidationEvent> list = (List<CacheInvalidationEvent>) events;
+            return list.size() == 2
+                    && list.stream().allMatch(e -> bus.getNodeId().equals(e.getOriginNode()))
+                    && list.getLast().getCacheKey() == null;
+        }));
+    }
+
+    @Test
+    @DisplayName("""
+            poll():
+             Should apply events from other nodes exactly once and skip events of this node
+            """)
+    void poll_NewEvents_AppliesRemoteEventsOnce() {
+        //Given
+        CacheInvalidationEvent remote = event(1L, OTHER_NODE, 7L);
+        CacheInvalidationEvent own = event(2L, bus.getNodeId(), 8L);
+        when(eventRepository.findAllByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class)))
+                .thenReturn(List.of(remote, own));
+
+        //When
+        bus.poll();
+        bus.poll();
+
+        //Then
+        verify(localCacheInvalidator, times(1)).apply(new CacheInvalidation(BOOKS, 7L));
+        verify(localCacheInvalidator, never()).apply(new CacheInvalidation(BOOKS, 8L));
+        verify(applicationEventPublisher, times(1))
+                .publishEvent(new CacheInvalidation(BOOKS, 7L));
+        verify(applicationEventPublisher, never())
+                .publishEvent(new CacheInvalidation(BOOKS, 8L));
+    }
+
+    @Test
+    @DisplayName("""
+            poll():
+             Should apply an event that commits late with an id below the watermark
+            """)
+    void poll_LateCommittedEvent_IsApplied() {
+        //Given
+        CacheInvalidationEvent later = event(3L, OTHER_NODE, 9L);
+        CacheInvalidationEvent lateCommitted = event(2L, OTHER_NODE, 10L);
+        when(eventRepository.findAllByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class)))
+                .thenReturn(List.of(later))
+                .thenReturn(List.of(lateCommitted, later));
+
+        //When
+        bus.poll();
+        bus.poll();
+
+        //Then
+        verify(localCacheInvalidator, times(1)).apply(new CacheInvalidation(BOOKS, 9L));
+        verify(localCacheInvalidator, times(1)).apply(new CacheInvalidation(BOOKS, 10L));
+    }
+
+    private CacheInvalidationEvent event(Long id, String originNode, Long key) {
+        CacheInvalidationEvent event = new CacheInvalidationEvent();
+        event.setId(id);
+        event.setCacheName(BOOKS);
+        event.setCacheKey(key);
+        event.setOriginNode(originNode);
+        return event;
+    }
+}
@@ -6,6 +6,8 @@ import static book.store.intro.util.TestBookDataUtil.createDefaultBookDtoSample;
 import static book.store.intro.util.TestUserDataUtil.ADMIN_AUTHORITY;
 import static book.store.intro.util.TestUserDataUtil.USER_AUTHORITY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
@@ -17,16 +19,21 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import book.store.intro.dto.book.BookDto;
 import book.store.intro.dto.book.CreateBookRequestDto;
+import book.store.intro.dto.pagination.CursorPageDto;
 import book.store.intro.model.PageResponse;
 import book.store.intro.service.book.BookService;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.jdbc.Sql;
@@ -93,6 +100,65 @@ public class BookControllerTests {
                 actualBookDtosPage.getContent().getFirst(), expectedBookDto));
     }
 
+    @WithMockUser(username = "admin", authorities = {USER_AUTHORITY, ADMIN_AUTHORITY})
+    @Test
+    @DisplayName("""
+            getAllBooksByCursor():
+             Should walk all books in title order following the next cursor
+            """)
+    @Sql(scripts = {
+            "classpath:database/categories/insert_three_categories.sql",
+            "classpath:database/books/insert_twelve_books.sql",
+            "classpath:database/books_categories/insert_book_category_relation_for_twelve_books.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void getAllBooksByCursor_FollowingNextCursor_ReturnsEveryBookOnce() throws Exception {
+        //Given
+        int cursorPageSize = 5;
+        List<String> expectedTitles = List.of("BookEight", "BookEleven", "BookFive",
+                "BookFour", "BookNine", "BookOne", "BookSeven", "BookSix", "BookTen",
+                "BookThree", "BookTwelve", "BookTwo");
+
+        //When
+        List<String> actualTitles = new ArrayList<>();
+        List<Integer> actualPageSizes = new ArrayList<>();
+        String cursor = "";
+        do {
+            MvcResult result = mockMvc.perform(get("/books")
+                            .param("cursor", cursor)
+                            .param("size", String.valueOf(cursorPageSize)))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            CursorPageDto<BookDto> page = objectMapper.readValue(result.getResponse()
+                    .getContentAsString(), new TypeReference<>() {
+                    });
+            page.content().forEach(bookDto -> actualTitles.add(bookDto.getTitle()));
+            actualPageSizes.add(page.size());
+            assertFalse(page.content().getFirst().getCategoryIds().isEmpty());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        //Then
+        assertEquals(expectedTitles, actualTitles);
+        assertEquals(List.of(5, 5, 2), actualPageSizes);
+    }
+
+    @WithMockUser(username = "admin", authorities = {USER_AUTHORITY, ADMIN_AUTHORITY})
+    @Test
+    @DisplayName("""
+            getAllBooksByCursor():
+             Should return 400 BAD REQUEST when given a malformed cursor
+            """)
+    void getAllBooksByCursor_InvalidCursor_BadRequest() throws Exception {
+        //Given
+        String invalidCursor = "not-a-cursor";
+
+        //When & Then
+        mockMvc.perform(get("/books").param("cursor", invalidCursor))
+                .andExpect(status().isBadRequest());
+    }
+
     @WithMockUser(username = "admin", authorities = {USER_AUTHORITY, ADMIN_AUTHORITY})
     @Test
     @DisplayName("""
@@ -138,6 +204,119 @@ public class BookControllerTests {
                 .andExpect(status().isNotFound());
     }
 
+    @WithMockUser(username = "admin", authorities = {USER_AUTHORITY, ADMIN_AUTHORITY})
+    @Test
+    @DisplayName("""
+            getBookById():
+             Should return 304 NOT MODIFIED without a body while the ETag still matches
+            """)
+    @Sql(scripts = {
+            "classpath:database/categories/insert_one_category.sql",
+            "classpath:database/books/insert_one_book.sql",
+            "classpath:database/books_categories/insert_book_category_relation_for_one_book.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void getBookById_MatchingIfNoneMatch_NotModified() throws Exception {
+        //Given
+        Long bookId = 1L;
+        String tag = mockMvc.perform(get("/books/{bookId}", bookId))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        //When
+        MvcResult result = mockMvc.perform(get("/books/{bookId}", bookId)
+                        .header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isNotModified())
+                .andReturn();
+
+        //Then
+        assertEquals("\"0\"", tag);
+        assertEquals(tag, result.getResponse().getHeader(HttpHeaders.ETAG));
+        assertEquals("", result.getResponse().getContentAsString());
+    }
+
+    @WithMockUser(username = "admin", authorities = {USER_AUTHORITY, ADMIN_AUTHORITY})
+    @Test
+    @DisplayName("""
+            getBookById():
+             Should return the updated book with a new ETag once the book changes
+            """)
+    @Sql(scripts = {
+            "classpath:database/categories/insert_one_category.sql",
+            "classpath:database/books/insert_one_book.sql",
+            "classpath:database/books_categories/insert_book_category_relation_for_one_book.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void getBookById_BookUpdated_ReturnsNewETag() throws Exception {
+        //Given
+        Long bookId = 1L;
+        String tag = mockMvc.perform(get("/books/{bookId}", bookId))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        CreateBookRequestDto requestDto = createBookRequestDtoSample();
+        requestDto.setTitle("NewTitle");
+        mockMvc.perform(put("/books/{bookId}", bookId)
+                        .content(objectMapper.writeValueAsString(requestDto))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        //When
+        MvcResult result = mockMvc.perform(get("/books/{bookId}", bookId)
+                        .header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //Then
+        BookDto actualBookDto = objectMapper.readValue(result.getResponse()
+                .getContentAsString(), BookDto.class);
+        assertEquals("NewTitle", actualBookDto.getTitle());
+        assertEquals("\"1\"", result.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @WithMockUser(username = "admin", authorities = {USER_AUTHORITY, ADMIN_AUTHORITY})
+    @Test
+    @DisplayName("""
+            getAllBooks():
+             Should return 304 NOT MODIFIED until the catalog changes
+            """)
+    @Sql(scripts = {
+            "classpath:database/categories/insert_one_category.sql",
+            "classpath:database/books/insert_one_book.sql",
+            "classpath:database/books_categories/insert_book_category_relation_for_one_book.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void getAllBooks_CatalogChanged_ReturnsNewETag() throws Exception {
+        //Given
+        String tag = mockMvc.perform(get("/books"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/books").header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isNotModified());
+
+        //When
+        mockMvc.perform(delete("/books/{bookId}", 1L))
+                .andExpect(status().isNoContent());
+        MvcResult result = mockMvc.perform(get("/books")
+                        .header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //Then
+        PageResponse<BookDto> actualBookDtosPage = objectMapper.readValue(result.getResponse()
+                .getContentAsString(), new TypeReference<>() {
+                });
+        assertEquals(0, actualBookDtosPage.getTotalElements());
+        assertNotEquals(tag, result.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
     @WithMockUser(username = "admin", authorities = {USER_AUTHORITY, ADMIN_AUTHORITY})
     @Test
     @DisplayName("""
@@ -189,6 +368,70 @@ public class BookControllerTests {
                 actualBookDtosPage.getContent().getFirst(), expectedBookDto));
     }
 
+    @WithMockUser(username = "admin", authorities = {USER_AUTHORITY, ADMIN_AUTHORITY})
+    @Test
+    @DisplayName("""
+            search():
+             Should combine category and inclusive typed price bounds
+            """)
+    @Sql(scripts = {
+            "classpath:database/categories/insert_three_categories.sql",
+            "classpath:database/books/insert_twelve_books.sql",
+            "classpath:database/books_categories/insert_book_category_relation_for_twelve_books.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void search_CategoryAndPriceRange_ReturnsMatchingBooks() throws Exception {
+        //When
+        MvcResult result = mockMvc.perform(get("/books/search")
+                        .param("categoryId", "1")
+                        .param("bottomPrice", "39.99")
+                        .param("upperPrice", "39.99")
+                        .param("sort", "id")
+                        .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //Then
+        PageResponse<BookDto> actualBookDtosPage = objectMapper.readValue(result.getResponse()
+                .getContentAsString(), new TypeReference<>() {
+                });
+        assertEquals(List.of(1L, 3L, 4L, 7L, 10L), actualBookDtosPage.getContent().stream()
+                .map(BookDto::getId)
+                .toList());
+    }
+
+    @WithMockUser(username = "admin", authorities = {USER_AUTHORITY, ADMIN_AUTHORITY})
+    @Test
+    @DisplayName("""
+            search():
+             Should return 400 BAD REQUEST when a price bound is not positive
+            """)
+    void search_NonPositivePrice_BadRequest() throws Exception {
+        //When & Then
+        mockMvc.perform(get("/books/search")
+                        .param("bottomPrice", "-5.25")
+                        .param("upperPrice", "10.50"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/books/search").param("upperPrice", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @WithMockUser(username = "admin", authorities = {USER_AUTHORITY, ADMIN_AUTHORITY})
+    @Test
+    @DisplayName("""
+            search():
+             Should return 400 BAD REQUEST when the bottom price exceeds the upper price
+            """)
+    void search_InvertedPriceRange_BadRequest() throws Exception {
+        //When & Then
+        mockMvc.perform(get("/books/search")
+                        .param("bottomPrice", "40.00")
+                        .param("upperPrice", "10.00"))
+                .andExpect(status().isBadRequest());
+    }
+
     @WithMockUser(username = "admin", authorities = ADMIN_AUTHORITY)
     @Test
     @DisplayName("""
@@ -421,4 +664,224 @@ public class BookControllerTests {
                 .andExpect(status().isForbidden())
                 .andReturn();
     }
+
+    @WithMockUser(username = "admin", authorities = {ADMIN_AUTHORITY})
+    @Test
+    @DisplayName("""
+            importBooks():
+             Should upsert valid CSV rows by ISBN and stream errors and progress as NDJSON
+            """)
+    @Sql(scripts = {
+            "classpath:database/categories/insert_three_categories.sql",
+            "classpath:database/books/insert_one_book.sql",
+            "classpath:database/books_categories/insert_book_category_relation_for_one_book.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void importBooks_CsvWithValidAndInvalidRows_ImportsValidRows() throws Exception {
+        //Given
+        String csv = """
+                title,author,isbn,price,description,categories
+                Updated BookOne,AuthorOne,978-3-16-148410-0,45.50,Updated description,1;2
+                New Book,New Author,9780306406157,19.99,,3
+                ,Nameless Author,9781861972712,10.00,,1
+                Orphan Book,Some Author,9780140449136,12.00,,42
+                """;
+
+        //When
+        MvcResult result = mockMvc.perform(
+                        post("/books/import")
+                                .content(csv)
+                                .contentType("text/csv"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //Then
+        List<JsonNode> events = readEvents(result);
+        JsonNode summary = events.getLast();
+        assertTrue(summary.get("completed").asBoolean());
+        assertEquals(4, summary.get("processed").asLong());
+        assertEquals(1, summary.get("created").asLong());
+        assertEquals(1, summary.get("updated").asLong());
+        assertEquals(2, summary.get("failed").asLong());
+
+        List<JsonNode> errors = events.stream()
+                .filter(event -> event.get("type").asText().equals("error"))
+                .toList();
+        assertEquals(List.of(3L, 4L), errors.stream().map(error -> error.get("row").asLong())
+                .toList());
+        assertTrue(errors.getFirst().get("errors").get(0).asText().startsWith("title"));
+        assertTrue(errors.getLast().get("errors").get(0).asText()
+                .startsWith("Can't find categories"));
+
+        BookDto updatedBook = bookService.getById(1L);
+        assertEquals("Updated BookOne", updatedBook.getTitle());
+        assertEquals(List.of(1L, 2L), updatedBook.getCategoryIds().stream().sorted().toList());
+    }
+
+    @WithMockUser(username = "admin", authorities = {ADMIN_AUTHORITY})
+    @Test
+    @DisplayName("""
+            importBooks():
+             Should report a repeated ISBN and a malformed row once each with their row numbers
+            """)
+    @Sql(scripts = "classpath:database/categories/insert_three_categories.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void importBooks_CsvWithDuplicateAndMalformedRows_ReportsRowErrors() throws Exception {
+        //Given
+        String csv = """
+                title,author,isbn,price,description,categories
+                First,Author,9780306406157,10.00,,1
+                Again,Author,9780306406157,11.00,,1
+                Broken,"Author"junk,9781861972712,"12.00"junk,,1
+                Orphan Book,Some Author,9780140449136,12.00,,42
+                """;
+
+        //When
+        MvcResult result = mockMvc.perform(
+                        post("/books/import")
+                                .content(csv)
+                                .contentType("text/csv"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //Then
+        List<JsonNode> events = readEvents(result);
+        JsonNode summary = events.getLast();
+        assertEquals(1, summary.get("created").asLong());
+        assertEquals(0, summary.get("updated").asLong());
+        assertEquals(3, summary.get("failed").asLong());
+
+        List<JsonNode> errors = events.stream()
+                .filter(event -> event.get("type").asText().equals("error"))
+                .toList();
+        assertEquals(List.of(2L, 3L, 4L), errors.stream()
+                .map(error -> error.get("row").asLong())
+                .sorted()
+                .toList());
+    }
+
+    @WithMockUser(username = "admin", authorities = {ADMIN_AUTHORITY})
+    @Test
+    @DisplayName("""
+            importBooks():
+             Should import NDJSON rows and report malformed lines without stopping the import
+            """)
+    @Sql(scripts = "classpath:database/categories/insert_three_categories.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void importBooks_NdjsonWithMalformedLine_ImportsRemainingRows() throws Exception {
+        //Given
+        String ndjson = """
+                {"title":"First","author":"Author","isbn":"9780306406157","price":10,\
+                "categories":[1]}
+                {"title": "Broken"
+                {"title":"Second","author":"Author","isbn":"9781861972712","price":12,\
+                "categories":[2,3]}
+                """;
+
+        //When
+        MvcResult result = mockMvc.perform(
+                        post("/books/import")
+                                .content(ndjson)
+                                .contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //Then
+        JsonNode summary = readEvents(result).getLast();
+        assertEquals(3, summary.get("processed").asLong());
+        assertEquals(2, summary.get("created").asLong());
+        assertEquals(1, summary.get("failed").asLong());
+    }
+
+    @WithMockUser(username = "user", authorities = {USER_AUTHORITY})
+    @Test
+    @DisplayName("""
+            importBooks():
+             Should return 403 FORBIDDEN for users without the ADMIN authority
+            """)
+    void importBooks_UserAuthority_Forbidden() throws Exception {
+        //When & Then
+        mockMvc.perform(
+                        post("/books/import")
+                                .content("title,author,isbn,price,categories")
+                                .contentType("text/csv"))
+                .andExpect(status().isForbidden());
+    }
+
+    @WithMockUser(username = "admin", authorities = {ADMIN_AUTHORITY})
+    @Test
+    @DisplayName("""
+            exportBooksAsNdjson():
+             Should stream every book with its category ids ordered by id
+            """)
+    @Sql(scripts = {
+            "classpath:database/categories/insert_three_categories.sql",
+            "classpath:database/books/insert_twelve_books.sql",
+            "classpath:database/books_categories/insert_book_category_relation_for_twelve_books.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void exportBooksAsNdjson_TwelveBooks_StreamsEveryBook() throws Exception {
+        //When
+        MvcResult result = mockMvc.perform(
+                        get("/books/export")
+                                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //Then
+        List<BookDto> actual = new ArrayList<>();
+        for (String line : result.getResponse().getContentAsString().split("\n")) {
+            actual.add(objectMapper.readValue(line, BookDto.class));
+        }
+        assertEquals(LongStream.rangeClosed(1, 12).boxed().toList(),
+                actual.stream().map(BookDto::getId).toList());
+        assertTrue(actual.stream().noneMatch(book -> book.getCategoryIds().isEmpty()));
+        BookDto expected = bookService.getById(1L);
+        assertTrue(EqualsBuilder.reflectionEquals(expected, actual.getFirst(),
+                "categoryIds", "version"));
+        assertEquals(expected.getCategoryIds().stream().sorted().toList(),
+                actual.getFirst().getCategoryIds().stream().sorted().toList());
+    }
+
+    @WithMockUser(username = "admin", authorities = {ADMIN_AUTHORITY})
+    @Test
+    @DisplayName("""
+            exportBooksAsCsv():
+             Should stream a header and one CSV row per book
+            """)
+    @Sql(scripts = {
+            "classpath:database/categories/insert_three_categories.sql",
+            "classpath:database/books/insert_twelve_books.sql",
+            "classpath:database/books_categories/insert_book_category_relation_for_twelve_books.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void exportBooksAsCsv_TwelveBooks_StreamsHeaderAndRows() throws Exception {
+        //When
+        MvcResult result = mockMvc.perform(
+                        get("/books/export")
+                                .accept("text/csv"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //Then
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(13, lines.length);
+        assertEquals("id,title,author,isbn,price,description,categoryIds,coverImage", lines[0]);
+        assertTrue(lines[1].startsWith("1,BookOne,AuthorOne,978-3-16-148410-0,39.99,"));
+    }
+
+    private List<JsonNode> readEvents(MvcResult result) throws Exception {
+        List<JsonNode> events = new ArrayList<>();
+        for (String line : result.getResponse().getContentAsString().split("\n")) {
+            events.add(objectMapper.readTree(line));
+        }
+        return events;
+    }
 }
@@ -7,6 +7,7 @@ import static book.store.intro.util.TestCategoryDataUtil.createDefaultCategoryDt
 import static book.store.intro.util.TestUserDataUtil.ADMIN_AUTHORITY;
 import static book.store.intro.util.TestUserDataUtil.USER_AUTHORITY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
@@ -16,6 +17,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import book.store.intro.dto.book.BookDto;
 import book.store.intro.dto.book.BookWithoutCategoriesDto;
 import book.store.intro.dto.category.CategoryDto;
 import book.store.intro.dto.category.CreateCategoryRequestDto;
@@ -28,6 +30,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.jdbc.Sql;
@@ -134,6 +137,75 @@ public class CategoryControllerTests {
                 .andExpect(status().isNotFound());
     }
 
+    @WithMockUser(username = "admin", authorities = {USER_AUTHORITY, ADMIN_AUTHORITY})
+    @Test
+    @DisplayName("""
+            getCategoryById():
+             Should return 304 NOT MODIFIED without a body while the ETag still matches
+            """)
+    @Sql(scripts = "classpath:database/categories/insert_one_category.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void getCategoryById_MatchingIfNoneMatch_NotModified() throws Exception {
+        //Given
+        Long categoryId = 1L;
+        String tag = mockMvc.perform(get("/categories/{categoryId}", categoryId))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        //When
+        MvcResult result = mockMvc.perform(get("/categories/{categoryId}", categoryId)
+                        .header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isNotModified())
+                .andReturn();
+
+        //Then
+        assertEquals("\"0\"", tag);
+        assertEquals("", result.getResponse().getContentAsString());
+    }
+
+    @WithMockUser(username = "admin", authorities = {USER_AUTHORITY, ADMIN_AUTHORITY})
+    @Test
+    @DisplayName("""
+            getAllCategories():
+             Should return the updated page with a new ETag once a category changes
+            """)
+    @Sql(scripts = "classpath:database/categories/insert_one_category.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void getAllCategories_CategoryUpdated_ReturnsNewETag() throws Exception {
+        //Given
+        String tag = mockMvc.perform(get("/categories"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/categories").header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isNotModified());
+
+        //When
+        mockMvc.perform(put("/categories/{categoryId}", 1L)
+                        .content(objectMapper.writeValueAsString(
+                                new CreateCategoryRequestDto("NewName", "NewDescription")))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+        MvcResult result = mockMvc.perform(get("/categories")
+                        .header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //Then
+        PageResponse<CategoryDto> actual = objectMapper.readValue(result.getResponse()
+                .getContentAsString(), new TypeReference<>() {
+                });
+        assertEquals("NewName", actual.getContent().getFirst().getName());
+        assertNotEquals(tag, result.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
     @WithMockUser(username = "admin", authorities = {USER_AUTHORITY, ADMIN_AUTHORITY})
     @Test
     @DisplayName("""
@@ -397,6 +469,42 @@ public class CategoryControllerTests {
         );
     }
 
+    @WithMockUser(username = "admin", authorities = {USER_AUTHORITY, ADMIN_AUTHORITY})
+    @Test
+    @DisplayName("""
+            deleteCategory():
+             Should change the ETag of the books that lose the category
+            """)
+    @Sql(scripts = {
+            "classpath:database/categories/insert_one_category.sql",
+            "classpath:database/books/insert_one_book.sql",
+            "classpath:database/books_categories/insert_book_category_relation_for_one_book.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void deleteCategory_BookInCategory_ChangesBookETag() throws Exception {
+        //Given
+        Long bookId = 1L;
+        String tag = mockMvc.perform(get("/books/{bookId}", bookId))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        //When
+        mockMvc.perform(delete("/categories/{categoryId}", 1L))
+                .andExpect(status().isNoContent());
+        MvcResult result = mockMvc.perform(get("/books/{bookId}", bookId)
+                        .header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //Then
+        BookDto actual = objectMapper.readValue(result.getResponse()
+                .getContentAsString(), BookDto.class);
+        assertTrue(actual.getCategoryIds().isEmpty());
+        assertNotEquals(tag, result.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
     @WithMockUser(username = "user", authorities = USER_AUTHORITY)
     @Test
     @DisplayName("""
@@ -7,6 +7,7 @@ import static book.store.intro.util.TestOrderDataUtil.createDefaultOrderItemDtoS
 import static book.store.intro.util.TestUserDataUtil.USER_EMAIL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -18,7 +19,9 @@ import book.store.intro.dto.order.CreateOrderRequestDto;
 import book.store.intro.dto.order.OrderDto;
 import book.store.intro.dto.order.UpdateOrderStatusRequestDto;
 import book.store.intro.dto.order.item.OrderItemDto;
+import book.store.intro.dto.pagination.CursorPageDto;
 import book.store.intro.model.PageResponse;
+import book.store.intro.repository.shopping.cart.item.CartItemRepository;
 import book.store.intro.service.order.OrderService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -50,6 +53,9 @@ public class OrderControllerTests {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
     @Autowired
     private UserDetailsService userDetailsService;
 
@@ -112,6 +118,42 @@ public class OrderControllerTests {
                 actualOrderDtosPage.getContent().getFirst().getOrderItems().getFirst()));
     }
 
+    @WithUserDetails(value = USER_EMAIL, userDetailsServiceBeanName = "customUserDetailsService")
+    @Test
+    @DisplayName("""
+            viewOrderHistoryByCursor():
+             Verifying retrieval of the first cursor page of orders without a next cursor
+            """)
+    @Sql(scripts = {
+            "classpath:database/users/insert_one_user.sql",
+            "classpath:database/users_roles/set_user_one_roles_USER.sql",
+            "classpath:database/books/insert_one_book.sql",
+            "classpath:database/orders/insert_one_order.sql",
+            "classpath:database/order_items/insert_one_order_item.sql",
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void viewOrderHistoryByCursor_FirstPage_Success() throws Exception {
+        //Given
+        Long expectedOrderId = 1L;
+        Long expectedUserId = 3L;
+
+        //When
+        MvcResult result = mockMvc.perform(get("/orders").param("cursor", ""))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //Then
+        CursorPageDto<OrderDto> actualOrderDtosPage = objectMapper.readValue(
+                result.getResponse().getContentAsString(), new TypeReference<>() {
+                });
+
+        assertEquals(1, actualOrderDtosPage.size());
+        assertEquals(expectedOrderId, actualOrderDtosPage.content().getFirst().getId());
+        assertEquals(expectedUserId, actualOrderDtosPage.content().getFirst().getUserId());
+        assertNull(actualOrderDtosPage.nextCursor());
+    }
+
     @WithUserDetails(value = USER_EMAIL, userDetailsServiceBeanName = "customUserDetailsService")
     @Test
     @DisplayName("""
@@ -284,8 +326,6 @@ public class OrderControllerTests {
 
         expectedOrderDto.setOrderItems(new ArrayList<>(List.of(expectedOrderItemDto)));
 
-        Long expectedOrderId = 1L;
-
         //When
         MvcResult result = mockMvc.perform(
                 post("/orders")
@@ -298,13 +338,14 @@ public class OrderControllerTests {
                 .getContentAsString(), OrderDto.class);
 
         assertNotNull(actualOrderDto);
-        assertEquals(expectedOrderId, actualOrderDto.getId());
+        assertNotNull(actualOrderDto.getId());
         assertEquals(expectedUserId, actualOrderDto.getUserId());
         assertEquals(1, actualOrderDto.getOrderItems().size());
         assertTrue(EqualsBuilder.reflectionEquals(expectedOrderDto,
-                actualOrderDto, "orderItems", "orderDate"));
+                actualOrderDto, "id", "orderItems", "orderDate"));
         assertTrue(EqualsBuilder.reflectionEquals(expectedOrderItemDto,
-                actualOrderDto.getOrderItems().getFirst()));
+                actualOrderDto.getOrderItems().getFirst(), "id"));
+        assertEquals(0, cartItemRepository.count());
     }
 
     @WithUserDetails(value = USER_EMAIL, userDetailsServiceBeanName = "customUserDetailsService")
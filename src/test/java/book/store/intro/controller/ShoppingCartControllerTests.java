@@ -14,12 +14,17 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import book.store.intro.dto.shopping.cart.AddItemToCartRequestDto;
+import book.store.intro.dto.shopping.cart.CartItemOperationDto;
 import book.store.intro.dto.shopping.cart.ShoppingCartDto;
+import book.store.intro.dto.shopping.cart.UpdateCartRequestDto;
 import book.store.intro.dto.shopping.cart.UpdateItemInCartRequestDto;
 import book.store.intro.dto.shopping.cart.item.CartItemDto;
 import book.store.intro.service.shopping.cart.ShoppingCartService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -132,9 +137,10 @@ public class ShoppingCartControllerTests {
                 .getContentAsString(), ShoppingCartDto.class);
         assertNotNull(actual);
         assertTrue(EqualsBuilder.reflectionEquals(expectedCartItemDto,
-                actual.getCartItems().getFirst()));
+                actual.getCartItems().getFirst(), "id"));
         assertEquals(expectedId, actual.getId());
         assertEquals(expectedId, actual.getUserId());
+        assertNotNull(actual.getCartItems().getFirst().getId());
     }
 
     @Test
@@ -245,6 +251,115 @@ public class ShoppingCartControllerTests {
                 .andReturn();
     }
 
+    @Test
+    @WithUserDetails(value = USER_EMAIL, userDetailsServiceBeanName = "customUserDetailsService")
+    @DisplayName("""
+            updateCart():
+             Verifying a batch of add, update and remove operations is applied in one call
+            """)
+    @Sql(scripts = {
+            "classpath:database/users/insert_one_user.sql",
+            "classpath:database/users_roles/set_user_one_roles_USER.sql",
+            "classpath:database/shopping_carts/insert_one_shopping_cart.sql",
+            "classpath:database/books/insert_twelve_books.sql",
+            "classpath:database/cart_items/insert_three_cart_items.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void updateCart_MixedOperations_Success() throws Exception {
+        //Given
+        UpdateCartRequestDto requestDto = new UpdateCartRequestDto(List.of(
+                new CartItemOperationDto("ADD", 1L, 2),
+                new CartItemOperationDto("UPDATE", 2L, 5),
+                new CartItemOperationDto("REMOVE", 3L, null),
+                new CartItemOperationDto("ADD", 4L, 1),
+                new CartItemOperationDto("ADD", 4L, 3)
+        ));
+
+        String jsonRequest = objectMapper.writeValueAsString(requestDto);
+
+        //When
+        MvcResult result = mockMvc.perform(
+                        post("/cart/batch")
+                                .content(jsonRequest)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //Then
+        ShoppingCartDto actual = objectMapper.readValue(result.getResponse()
+                .getContentAsString(), ShoppingCartDto.class);
+        Map<Long, Integer> actualQuantities = actual.getCartItems().stream()
+                .collect(Collectors.toMap(CartItemDto::getBookId, CartItemDto::getQuantity));
+        assertEquals(Map.of(1L, 3, 2L, 5, 4L, 4), actualQuantities);
+    }
+
+    @Test
+    @WithUserDetails(value = USER_EMAIL, userDetailsServiceBeanName = "customUserDetailsService")
+    @DisplayName("""
+            updateCart():
+             Should return 404 NOT FOUND and leave the cart untouched when a book does not exist
+            """)
+    @Sql(scripts = {
+            "classpath:database/users/insert_one_user.sql",
+            "classpath:database/users_roles/set_user_one_roles_USER.sql",
+            "classpath:database/shopping_carts/insert_one_shopping_cart.sql",
+            "classpath:database/books/insert_three_books.sql",
+            "classpath:database/cart_items/insert_three_cart_items.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void updateCart_UnknownBook_NotFound() throws Exception {
+        //Given
+        UpdateCartRequestDto requestDto = new UpdateCartRequestDto(List.of(
+                new CartItemOperationDto("REMOVE", 1L, null),
+                new CartItemOperationDto("ADD", 99L, 1)
+        ));
+
+        String jsonRequest = objectMapper.writeValueAsString(requestDto);
+
+        //When
+        mockMvc.perform(
+                        post("/cart/batch")
+                                .content(jsonRequest)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isNotFound());
+
+        //Then
+        assertEquals(3, shoppingCartService.getCartInfo(3L).getCartItems().size());
+    }
+
+    @Test
+    @WithUserDetails(value = USER_EMAIL, userDetailsServiceBeanName = "customUserDetailsService")
+    @DisplayName("""
+            updateCart():
+             Should return 400 BAD REQUEST when an ADD operation has no quantity
+            """)
+    @Sql(scripts = {
+            "classpath:database/users/insert_one_user.sql",
+            "classpath:database/users_roles/set_user_one_roles_USER.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void updateCart_MissingQuantity_BadRequest() throws Exception {
+        //Given
+        UpdateCartRequestDto requestDto = new UpdateCartRequestDto(List.of(
+                new CartItemOperationDto("ADD", 1L, null)
+        ));
+
+        String jsonRequest = objectMapper.writeValueAsString(requestDto);
+
+        //When & Then
+        mockMvc.perform(
+                        post("/cart/batch")
+                                .content(jsonRequest)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithUserDetails(value = USER_EMAIL, userDetailsServiceBeanName = "customUserDetailsService")
     @DisplayName("""
@@ -0,0 +1,95 @@
+package book.store.intro.controller;
+
+import static book.store.intro.util.TestUserDataUtil.USER_EMAIL;
+import static book.store.intro.util.TestUserDataUtil.USER_PASSWORD;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import book.store.intro.dto.user.UpdateUserRolesRequestDto;
+import book.store.intro.dto.user.UserLoginRequestDto;
+import book.store.intro.dto.user.UserLoginResponseDto;
+import book.store.intro.model.Role.RoleName;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "user.cache.ttl=5m")
+public class UserControllerTests {
+    protected static MockMvc mockMvc;
+
+    private static final Long USER_ID = 3L;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    static void beforeAll(
+            @Autowired WebApplicationContext applicationContext
+    ) {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(applicationContext)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    @DisplayName("""
+            updateRoles():
+             Should reject the next request of a user whose ADMIN role was revoked
+            """)
+    @Sql(scripts = {
+            "classpath:database/users/insert_one_user.sql",
+            "classpath:database/users_roles/set_user_one_roles_ADMIN.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void updateRoles_RevokedAdminRole_RejectsNextRequest() throws Exception {
+        //Given
+        String loginRequest = objectMapper.writeValueAsString(
+                new UserLoginRequestDto(USER_EMAIL, USER_PASSWORD));
+        String loginResponse = mockMvc.perform(
+                        post("/auth/login")
+                                .content(loginRequest)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String authorization = "Bearer " + objectMapper.readValue(
+                loginResponse, UserLoginResponseDto.class).token();
+        String jsonRequest = objectMapper.writeValueAsString(
+                new UpdateUserRolesRequestDto(Set.of(RoleName.USER)));
+
+        //When
+        mockMvc.perform(
+                        put("/users/{id}/roles", USER_ID)
+                                .header(HttpHeaders.AUTHORIZATION, authorization)
+                                .content(jsonRequest)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk());
+
+        //Then
+        mockMvc.perform(
+                        put("/users/{id}/roles", USER_ID)
+                                .header(HttpHeaders.AUTHORIZATION, authorization)
+                                .content(jsonRequest)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,267 @@
+package book.store.intro.datasource;
+
+import static book.store.intro.util.TestCategoryDataUtil.createCategoryRequestDtoSample;
+import static book.store.intro.util.TestUserDataUtil.USER_EMAIL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import book.store.intro.dto.book.BookDto;
+import book.store.intro.service.book.BookService;
+import book.store.intro.service.category.CategoryService;
+import book.store.intro.service.order.OrderService;
+import jakarta.servlet.http.Cookie;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@SpringBootTest(properties = {
+        "datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "datasource.replica.username=sa",
+        "datasource.replica.password=",
+        "datasource.replica.max-lag=2s",
+        "datasource.replica.lag-query=SELECT seconds AS Seconds_Behind_Source FROM replica_lag",
+        "datasource.replica.lag-check-interval=1h"
+})
+public class ReadWriteRoutingTests {
+    protected static MockMvc mockMvc;
+
+    private static final String CHANGELOG = "classpath:db/changelog/db.changelog-master.yaml";
+    private static final long USER_ID = 3L;
+    private static final Pageable PAGEABLE = PageRequest.of(0, 10);
+    private static final Duration EXPIRED_MARKER_AGE = Duration.ofHours(2);
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @BeforeAll
+    static void beforeAll(
+            @Autowired WebApplicationContext applicationContext,
+            @Autowired @Qualifier("replicaDataSource") DataSource replicaDataSource
+    ) throws Exception {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(applicationContext)
+                .apply(springSecurity())
+                .build();
+        migrate(replicaDataSource, applicationContext);
+        new JdbcTemplate(replicaDataSource).execute(
+                "CREATE TABLE IF NOT EXISTS replica_lag (seconds BIGINT)");
+    }
+
+    @BeforeEach
+    void setUp() {
+        setReplicaLag(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+        populate(replicaDataSource, "database/clear_database.sql");
+    }
+
+    @Test
+    @DisplayName("""
+            Read-only transaction:
+             Catalog reads should be served by the replica
+            """)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void getAll_ReplicaWithinLagTolerance_ReadsFromReplica() {
+        //Given
+        populate(replicaDataSource, "database/books/insert_one_book.sql");
+
+        //When
+        List<BookDto> books = bookService.getAll(PAGEABLE).getContent();
+
+        //Then
+        assertEquals(List.of("BookOne"), books.stream().map(BookDto::getTitle).toList());
+    }
+
+    @Test
+    @DisplayName("""
+            Read-only transaction:
+             Catalog reads should fall back to the primary when the replica lags too far behind
+            """)
+    @Sql(scripts = "classpath:database/books/insert_one_book.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void getAll_ReplicaLagAboveTolerance_ReadsFromPrimary() {
+        //Given
+        setReplicaLag(10);
+
+        //When
+        List<BookDto> books = bookService.getAll(PAGEABLE).getContent();
+
+        //Then
+        assertEquals(List.of("BookOne"), books.stream().map(BookDto::getTitle).toList());
+    }
+
+    @Test
+    @DisplayName("""
+            Read-write transaction:
+             Writes should go to the primary only
+            """)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void create_Category_WritesToPrimary() {
+        //When
+        categoryService.create(createCategoryRequestDtoSample());
+
+        //Then
+        assertEquals(1, countCategories(primaryDataSource));
+        assertEquals(0, countCategories(replicaDataSource));
+    }
+
+    @Test
+    @DisplayName("""
+            Read-only transaction:
+             A client carrying a recent write marker should read its own orders from the primary
+            """)
+    @Sql(scripts = {
+            "classpath:database/users/insert_one_user.sql",
+            "classpath:database/orders/insert_one_order.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void getAllOrders_AfterRecentWrite_ReadsFromPrimary() {
+        //Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        long ordersOnReplica = orderService.getAllOrders(PAGEABLE, USER_ID).getTotalElements();
+
+        //When
+        request.setCookies(new Cookie(ReadYourWritesTracker.COOKIE_NAME,
+                Long.toString(System.currentTimeMillis())));
+        long ordersAfterWrite = orderService.getAllOrders(PAGEABLE, USER_ID).getTotalElements();
+
+        //Then
+        assertEquals(0, ordersOnReplica);
+        assertEquals(1, ordersAfterWrite);
+    }
+
+    @Test
+    @DisplayName("""
+            Read-only transaction:
+             A write marker older than max-lag plus the lag check interval should be ignored
+            """)
+    void hasRecentWrite_ExpiredMarker_ReturnsFalse() {
+        //Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesTracker.COOKIE_NAME,
+                Long.toString(System.currentTimeMillis() - EXPIRED_MARKER_AGE.toMillis())));
+
+        //When
+        boolean actual = readYourWritesTracker.hasRecentWrite(request);
+
+        //Then
+        assertFalse(actual);
+    }
+
+    @Test
+    @WithUserDetails(value = USER_EMAIL, userDetailsServiceBeanName = "customUserDetailsService")
+    @DisplayName("""
+            Cart mutation:
+             Should hand the client a write marker that keeps its following reads on the primary
+            """)
+    @Sql(scripts = {
+            "classpath:database/users/insert_one_user.sql",
+            "classpath:database/users_roles/set_user_one_roles_USER.sql",
+            "classpath:database/shopping_carts/insert_one_shopping_cart.sql",
+            "classpath:database/books/insert_one_book.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void addItemToCart_AuthenticatedUser_RecordsWrite() throws Exception {
+        //When
+        MvcResult result = mockMvc.perform(post("/cart")
+                        .content("{\"bookId\":1,\"quantity\":1}")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().exists(ReadYourWritesTracker.COOKIE_NAME))
+                .andReturn();
+
+        //Then
+        MockHttpServletRequest nextRequest = new MockHttpServletRequest();
+        nextRequest.setCookies(result.getResponse().getCookie(ReadYourWritesTracker.COOKIE_NAME));
+        assertTrue(readYourWritesTracker.hasRecentWrite(nextRequest));
+    }
+
+    private void setReplicaLag(long seconds) {
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.update("DELETE FROM replica_lag");
+        replica.update("INSERT INTO replica_lag (seconds) VALUES (?)", seconds);
+        replicaLagMonitor.check();
+    }
+
+    private long countCategories(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM categories", Long.class);
+    }
+
+    private static void populate(DataSource dataSource, String script) {
+        new ResourceDatabasePopulator(new ClassPathResource(script)).execute(dataSource);
+    }
+
+    private static void migrate(DataSource dataSource, ApplicationContext applicationContext)
+            throws Exception {
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog(CHANGELOG);
+        liquibase.setChangeLogParameters(Map.of("id.generator.floor", "1000"));
+        liquibase.setResourceLoader(applicationContext);
+        liquibase.afterPropertiesSet();
+    }
+}
@@ -0,0 +1,63 @@
+package book.store.intro.load;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyRecorder {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        latencies.computeIfAbsent(endpoint, key -> new ConcurrentLinkedQueue<>())
+                .add(latencyNanos);
+        if (!success) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    public long totalErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public Map<String, EndpointStats> summarize(double elapsedSeconds) {
+        Map<String, EndpointStats> summary = new LinkedHashMap<>();
+        latencies.keySet().stream().sorted().forEach(endpoint -> {
+            List<Long> sorted = new ArrayList<>(latencies.get(endpoint));
+            sorted.sort(null);
+            LongAdder endpointErrors = errors.get(endpoint);
+            summary.put(endpoint, new EndpointStats(
+                    sorted.size(),
+                    endpointErrors == null ? 0 : endpointErrors.sum(),
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.99),
+                    percentile(sorted, 0.999),
+                    sorted.size() / elapsedSeconds));
+        });
+        return summary;
+    }
+
+    private double percentile(List<Long> sorted, double quantile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / NANOS_PER_MILLI;
+    }
+
+    public record EndpointStats(
+            long requests,
+            long errors,
+            double p50Millis,
+            double p99Millis,
+            double p999Millis,
+            double throughputPerSecond
+    ) {
+    }
+}
@@ -0,0 +1,236 @@
+package book.store.intro.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import book.store.intro.repository.book.search.BookSearchIndex;
+import book.store.intro.security.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "book.search.index.enabled=true",
+        "book.count.ttl=30s",
+        "user.cache.ttl=5m",
+        "catalog.cache.books.spec=maximumSize=10000,expireAfterWrite=10m",
+        "catalog.cache.categories.spec=maximumSize=1000,expireAfterWrite=30m",
+        "catalog.cache.category-pages.spec=maximumSize=100,expireAfterWrite=5m",
+        "spring.jpa.properties.hibernate.generate_statistics=false",
+        "logging.level.root=WARN"
+})
+@Sql(scripts = "classpath:database/clear_database.sql",
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class LoadTests {
+    private static final int USERS = Integer.getInteger("load.users", 50);
+    private static final int BOOKS = Integer.getInteger("load.books", 5000);
+    private static final int CATEGORIES = Integer.getInteger("load.categories", 20);
+    private static final int THREADS = Integer.getInteger("load.threads", 8);
+    private static final int REQUESTS_PER_THREAD =
+            Integer.getInteger("load.requests-per-thread", 500);
+    private static final Path REPORT = Path.of(
+            System.getProperty("load.report", "target/load-test-report.json"));
+    private static final long FIRST_USER_ID = 1000L;
+    private static final String[] SEARCH_TERMS = {"title", "book", "author", "tale"};
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private BookSearchIndex bookSearchIndex;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("""
+            Mixed workload:
+             Should serve browse, search, cart, checkout and order history traffic without errors
+             and report latency percentiles per endpoint
+            """)
+    void mixedWorkload_SeededCatalog_ReportsLatencyPerEndpoint() throws Exception {
+        //Given
+        seed();
+        bookSearchIndex.rebuild();
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            tokens.add(jwtUtil.generateToken(email(i)));
+        }
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        //When
+        long startedAt = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int worker = 0; worker < THREADS; worker++) {
+                int workerId = worker;
+                workers.add(executor.submit(() -> runWorker(workerId, tokens, recorder)));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        //Then
+        writeReport(recorder, elapsedSeconds);
+        assertEquals(0, recorder.totalErrors(), "Some requests failed, see " + REPORT);
+    }
+
+    private void runWorker(int workerId, List<String> tokens, LatencyRecorder recorder) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<String> workerTokens = new ArrayList<>();
+        for (int i = workerId; i < tokens.size(); i += THREADS) {
+            workerTokens.add(tokens.get(i));
+        }
+        for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+            String token = workerTokens.get(random.nextInt(workerTokens.size()));
+            int dice = random.nextInt(100);
+            if (dice < 40) {
+                send(recorder, "GET /books", get("/books?page=" + random.nextInt(20), token));
+            } else if (dice < 60) {
+                String term = SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)];
+                send(recorder, "GET /books/search",
+                        get("/books/search?title=" + term + random.nextInt(BOOKS), token));
+            } else if (dice < 80) {
+                String body = "{\"bookId\":" + (1 + random.nextInt(BOOKS)) + ",\"quantity\":1}";
+                send(recorder, "POST /cart", post("/cart", body, token));
+            } else if (dice < 85) {
+                send(recorder, "POST /orders", post("/orders",
+                        "{\"shippingAddress\":\"Load street 1\"}", token));
+            } else {
+                send(recorder, "GET /orders", get("/orders", token));
+            }
+        }
+    }
+
+    private void send(LatencyRecorder recorder, String endpoint, HttpRequest request) {
+        long startedAt = System.nanoTime();
+        boolean success;
+        try {
+            HttpResponse<Void> response = httpClient.send(request,
+                    HttpResponse.BodyHandlers.discarding());
+            success = response.statusCode() < 400 || isEmptyCartCheckout(endpoint, response);
+        } catch (Exception e) {
+            success = false;
+        }
+        recorder.record(endpoint, System.nanoTime() - startedAt, success);
+    }
+
+    private boolean isEmptyCartCheckout(String endpoint, HttpResponse<Void> response) {
+        return endpoint.equals("POST /orders") && response.statusCode() == 400;
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String body, String token) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void seed() {
+        List<Object[]> categories = new ArrayList<>();
+        for (int i = 1; i <= CATEGORIES; i++) {
+            categories.add(new Object[]{i, "Category " + i});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO categories (id, name, is_deleted) VALUES (?, ?, false)",
+                categories);
+
+        List<Object[]> books = new ArrayList<>();
+        List<Object[]> bookCategories = new ArrayList<>();
+        for (int i = 1; i <= BOOKS; i++) {
+            books.add(new Object[]{i, "Title" + i + " tale", "Author" + i % 97,
+                    String.format("978-1-%06d-%02d-0", i / 100, i % 100), 10 + i % 90});
+            bookCategories.add(new Object[]{i, 1 + i % CATEGORIES});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO books (id, title, author, isbn, price, is_deleted) "
+                + "VALUES (?, ?, ?, ?, ?, false)", books);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO books_categories (book_id, category_id) VALUES (?, ?)",
+                bookCategories);
+
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> carts = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(new Object[]{FIRST_USER_ID + i, email(i)});
+            carts.add(new Object[]{FIRST_USER_ID + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, password, first_name, last_name, "
+                + "is_deleted) VALUES (?, ?, 'password', 'Load', 'User', false)", users);
+        jdbcTemplate.batchUpdate("INSERT INTO users_roles (user_id, role_id) "
+                + "VALUES (?, (SELECT id FROM roles WHERE role = 'USER'))", carts);
+        jdbcTemplate.batchUpdate("INSERT INTO shopping_carts (id, is_deleted) VALUES (?, false)",
+                carts);
+    }
+
+    private String email(int index) {
+        return "load.user" + index + "@example.com";
+    }
+
+    private void writeReport(LatencyRecorder recorder, double elapsedSeconds) throws Exception {
+        Map<String, Object> configuration = new LinkedHashMap<>();
+        configuration.put("users", USERS);
+        configuration.put("books", BOOKS);
+        configuration.put("categories", CATEGORIES);
+        configuration.put("threads", THREADS);
+        configuration.put("requestsPerThread", REQUESTS_PER_THREAD);
+        configuration.put("virtualThreads", environment.getProperty(
+                "spring.threads.virtual.enabled", Boolean.class, false));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("configuration", configuration);
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("endpoints", recorder.summarize(elapsedSeconds));
+
+        Files.createDirectories(REPORT.toAbsolutePath().getParent());
+        objectMapper.copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(REPORT.toFile(), report);
+    }
+}
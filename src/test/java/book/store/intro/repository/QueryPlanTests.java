@@ -0,0 +1,332 @@
+package book.store.intro.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import book.store.intro.dto.book.BookSearchParameters;
+import book.store.intro.model.Book;
+import book.store.intro.model.Order;
+import book.store.intro.model.Role;
+import book.store.intro.pagination.BookKeyset;
+import book.store.intro.pagination.OrderKeyset;
+import book.store.intro.repository.book.BookRepository;
+import book.store.intro.repository.book.BookSpecificationBuilder;
+import book.store.intro.repository.book.BookSpecificationProviderManager;
+import book.store.intro.repository.book.spec.IsbnSpecificationProvider;
+import book.store.intro.repository.book.spec.PriceSpecificationProvider;
+import book.store.intro.repository.cache.CacheInvalidationEventRepository;
+import book.store.intro.repository.catalog.CatalogGenerationRepository;
+import book.store.intro.repository.category.CategoryRepository;
+import book.store.intro.repository.order.OrderRepository;
+import book.store.intro.repository.role.RoleRepository;
+import book.store.intro.repository.shopping.cart.ShoppingCartRepository;
+import book.store.intro.repository.shopping.cart.item.CartItemRepository;
+import book.store.intro.repository.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.test.context.jdbc.Sql;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class QueryPlanTests {
+    private static final Pattern FULL_SCAN = Pattern.compile("\\.tableScan(?!: FALSE)");
+    private static final String APPLICATION_PACKAGE = "book.store.intro";
+    // The catalog generation is a single-row counter table
+    private static final Set<String> EXPECTED_FULL_SCANS = Set.of(
+            "CatalogGenerationRepository.findGeneration",
+            "CatalogGenerationRepository.increment");
+    private static final Long USER_ID = 3L;
+    private static final Long CATEGORY_ID = 1L;
+    private static final int PAGE_SIZE = 5;
+
+    private final BookSpecificationBuilder bookSpecificationBuilder = new BookSpecificationBuilder(
+            new BookSpecificationProviderManager(List.of(new IsbnSpecificationProvider(),
+                    new PriceSpecificationProvider())));
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ShoppingCartRepository shoppingCartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private CacheInvalidationEventRepository cacheInvalidationEventRepository;
+
+    @Autowired
+    private CatalogGenerationRepository catalogGenerationRepository;
+
+    @Autowired
+    private RepositoryQueryRecorder repositoryQueryRecorder;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("""
+            Repository queries:
+             Every repository query method should run without a full table scan
+            """)
+    @Sql(scripts = {
+            "classpath:database/users/insert_one_user.sql",
+            "classpath:database/users_roles/set_user_one_roles_USER.sql",
+            "classpath:database/shopping_carts/insert_one_shopping_cart.sql",
+            "classpath:database/categories/insert_three_categories.sql",
+            "classpath:database/books/insert_twelve_books.sql",
+            "classpath:database/cart_items/insert_three_cart_items.sql",
+            "classpath:database/orders/insert_one_order.sql",
+            "classpath:database/order_items/insert_one_order_item.sql",
+            "classpath:database/books_categories/insert_book_category_relation_for_twelve_books.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/clear_database.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void repositoryQueries_AllQueryMethods_UseIndexes() throws SQLException {
+        //Given
+        Map<String, Set<String>> statementsByMethod;
+        repositoryQueryRecorder.start();
+        try {
+            runBookQueries();
+            runOrderQueries();
+            runCartQueries();
+            runUserQueries();
+        } finally {
+            statementsByMethod = repositoryQueryRecorder.stop();
+        }
+
+        //When
+        List<String> notExercised = declaredQueryMethods().stream()
+                .filter(method -> !statementsByMethod.containsKey(method))
+                .toList();
+        List<String> fullScans = new ArrayList<>();
+        for (Map.Entry<String, Set<String>> entry : statementsByMethod.entrySet()) {
+            if (EXPECTED_FULL_SCANS.contains(entry.getKey())) {
+                continue;
+            }
+            for (String statement : entry.getValue()) {
+                String plan = explain(statement);
+                if (plan != null && FULL_SCAN.matcher(plan).find()) {
+                    fullScans.add(entry.getKey() + ":\n" + plan);
+                }
+            }
+        }
+
+        //Then
+        assertTrue(notExercised.isEmpty(), "Repository query methods not exercised: "
+                + notExercised);
+        assertTrue(fullScans.isEmpty(), "Full table scans found:\n" + String.join("\n\n",
+                fullScans));
+    }
+
+    private Set<String> declaredQueryMethods() {
+        Repositories repositories = new Repositories(applicationContext);
+        Set<String> methods = new TreeSet<>();
+        for (Class<?> domainType : repositories) {
+            RepositoryInformation information = repositories
+                    .getRequiredRepositoryInformation(domainType);
+            Class<?> repositoryInterface = information.getRepositoryInterface();
+            information.getQueryMethods().forEach(method -> methods.add(
+                    RepositoryQueryRecorder.methodKey(repositoryInterface, method.getName())));
+            for (Class<?> fragment : repositoryInterface.getInterfaces()) {
+                if (fragment.getPackageName().startsWith(APPLICATION_PACKAGE)) {
+                    for (Method method : fragment.getDeclaredMethods()) {
+                        methods.add(RepositoryQueryRecorder.methodKey(
+                                repositoryInterface, method.getName()));
+                    }
+                }
+            }
+        }
+        return methods;
+    }
+
+    private void runBookQueries() {
+        Pageable bookPage = PageRequest.of(0, PAGE_SIZE, Sort.by("title", "author"));
+        bookRepository.findAll(bookPage);
+        bookRepository.findById(1L);
+        bookRepository.findSliceBy(bookPage);
+        bookRepository.findAllByCategoryId(bookPage, CATEGORY_ID);
+        Window<Book> books = bookRepository.findAllBy(
+                ScrollPosition.keyset(), Limit.of(PAGE_SIZE), BookKeyset.SORT);
+        bookRepository.findAllBy(books.positionAt(books.size() - 1), Limit.of(PAGE_SIZE),
+                BookKeyset.SORT);
+        bookRepository.findAllByCategoriesId(CATEGORY_ID, ScrollPosition.keyset(),
+                Limit.of(PAGE_SIZE), BookKeyset.SORT);
+        bookRepository.findAllWithCategoriesByIdIn(List.of(1L, 2L));
+        bookRepository.findSlice(bookSpecificationBuilder.build(new BookSearchParameters(
+                null, null, null, BigDecimal.ONE, BigDecimal.TEN, null)), bookPage);
+        bookRepository.findVersionById(1L);
+        bookRepository.incrementVersionByCategoryId(CATEGORY_ID);
+        bookRepository.findAllTextProjections();
+        bookRepository.findTextProjectionById(1L);
+        catalogGenerationRepository.findGeneration();
+        catalogGenerationRepository.increment();
+        bookRepository.findCategoryIdsByBookIdIn(List.of(1L, 2L));
+        bookRepository.findIdsByIdIn(List.of(1L, 2L));
+        bookRepository.findAllByIsbnInIncludingDeleted(List.of("978-3-16-148410-0"));
+        bookRepository.findAll(bookSpecificationBuilder.build(new BookSearchParameters(
+                null, null, null, BigDecimal.ONE, BigDecimal.TEN, null)), bookPage);
+        bookRepository.findAll(bookSpecificationBuilder.build(new BookSearchParameters(
+                null, null, null, BigDecimal.ONE, BigDecimal.TEN, CATEGORY_ID)), bookPage);
+        categoryRepository.findPageBy(
+                PageRequest.of(0, PAGE_SIZE, Sort.by("name", "description")));
+        categoryRepository.findSliceBy(PageRequest.of(0, PAGE_SIZE, Sort.by("name")));
+        categoryRepository.findById(CATEGORY_ID);
+        categoryRepository.findVersionById(CATEGORY_ID);
+    }
+
+    private void runOrderQueries() {
+        orderRepository.findAllByUserId(
+                PageRequest.of(0, PAGE_SIZE, Sort.by("orderDate").descending()), USER_ID);
+        orderRepository.findSliceByUserId(USER_ID,
+                PageRequest.of(0, PAGE_SIZE, Sort.by("orderDate").descending()));
+        Window<Order> orders = orderRepository.findAllByUserId(USER_ID, ScrollPosition.keyset(),
+                Limit.of(PAGE_SIZE), OrderKeyset.SORT);
+        orderRepository.findAllByUserId(USER_ID, orders.positionAt(orders.size() - 1),
+                Limit.of(PAGE_SIZE), OrderKeyset.SORT);
+        orderRepository.findByIdWithOrderItems(1L);
+        entityManager.clear();
+    }
+
+    private void runCartQueries() {
+        shoppingCartRepository.findWithCartItemsById(USER_ID);
+        shoppingCartRepository.findForUpdateById(USER_ID);
+        cartItemRepository.findCheckoutItemsByShoppingCartId(USER_ID);
+        cartItemRepository.findAllForUpdateByShoppingCartIdAndBookIdIn(USER_ID, List.of(1L, 2L));
+        cartItemRepository.incrementQuantity(USER_ID, 1L, 1);
+        cartItemRepository.updateQuantity(2L, USER_ID, 1);
+        cartItemRepository.deleteAllByShoppingCartIdAndBookIdIn(USER_ID, List.of(3L));
+        cartItemRepository.deleteAllByShoppingCartId(USER_ID);
+        entityManager.clear();
+    }
+
+    private void runUserQueries() {
+        userRepository.findByEmail("mail.example@gmail.com");
+        userRepository.existsByEmail("mail.example@gmail.com");
+        roleRepository.findByRole(Role.RoleName.USER);
+        roleRepository.findAllByRoleIn(List.of(Role.RoleName.USER, Role.RoleName.ADMIN));
+        cacheInvalidationEventRepository.findAllByIdGreaterThanOrderByIdAsc(0L, Limit.of(10));
+        cacheInvalidationEventRepository.findMaxId();
+        cacheInvalidationEventRepository.deleteAllCreatedBefore(LocalDateTime.now());
+    }
+
+    private String explain(String statement) throws SQLException {
+        String verb = statement.stripLeading().toLowerCase(Locale.ROOT);
+        if (!verb.startsWith("select") && !verb.startsWith("update")
+                && !verb.startsWith("delete")) {
+            return null;
+        }
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement)) {
+            ParameterMetaData parameters = explain.getParameterMetaData();
+            for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                bindSample(explain, i, parameters.getParameterType(i));
+            }
+            try (ResultSet plan = explain.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void bindSample(PreparedStatement statement, int index, int type)
+            throws SQLException {
+        switch (type) {
+            case Types.BIGINT, Types.INTEGER, Types.SMALLINT, Types.TINYINT,
+                    Types.DECIMAL, Types.NUMERIC -> statement.setLong(index, 1L);
+            case Types.BOOLEAN, Types.BIT -> statement.setBoolean(index, false);
+            case Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR ->
+                    statement.setString(index, "sample");
+            case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE ->
+                    statement.setTimestamp(index, Timestamp.valueOf(LocalDateTime.now()));
+            default -> statement.setNull(index, type);
+        }
+    }
+
+    @TestConfiguration
+    static class QueryRecordingConfig {
+        @Bean
+        static RepositoryQueryRecorder repositoryQueryRecorder() {
+            return new RepositoryQueryRecorder();
+        }
+
+        @Bean
+        static BeanPostProcessor repositoryInvocationRecorder(
+                RepositoryQueryRecorder repositoryQueryRecorder) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                    if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                        factoryBean.addRepositoryFactoryCustomizer(repositoryFactory ->
+                                repositoryFactory.addInvocationListener(repositoryQueryRecorder));
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementRecorder(
+                RepositoryQueryRecorder repositoryQueryRecorder) {
+            return properties -> properties.put(
+                    AvailableSettings.STATEMENT_INSPECTOR, repositoryQueryRecorder);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package book.store.intro.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+public class RepositoryQueryRecorder
+        implements StatementInspector, RepositoryMethodInvocationListener {
+    private final List<String> pendingStatements = new ArrayList<>();
+    private final Map<String, Set<String>> statementsByMethod = new LinkedHashMap<>();
+    private boolean recording;
+
+    public static String methodKey(Class<?> repositoryInterface, String methodName) {
+        return repositoryInterface.getSimpleName() + "." + methodName;
+    }
+
+    @Override
+    public synchronized String inspect(String sql) {
+        if (recording) {
+            pendingStatements.add(sql);
+        }
+        return sql;
+    }
+
+    @Override
+    public synchronized void afterInvocation(RepositoryMethodInvocation invocation) {
+        if (recording) {
+            statementsByMethod.computeIfAbsent(methodKey(invocation.getRepositoryInterface(),
+                    invocation.getMethod().getName()), key -> new LinkedHashSet<>())
+                    .addAll(pendingStatements);
+        }
+        pendingStatements.clear();
+    }
+
+    public synchronized void start() {
+        pendingStatements.clear();
+        statementsByMethod.clear();
+        recording = true;
+    }
+
+    public synchronized Map<String, Set<String>> stop() {
+        recording = false;
+        return new LinkedHashMap<>(statementsByMethod);
+    }
+}
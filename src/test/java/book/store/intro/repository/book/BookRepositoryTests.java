@@ -5,7 +5,7 @@ import static book.store.intro.util.TestBookDataUtil.PAGE_SIZE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import book.store.intro.model.Book;
+import book.store.intro.dto.book.BookWithoutCategoriesDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -44,7 +44,8 @@ public class BookRepositoryTests {
         Pageable pageable = PageRequest.of(PAGE_NUMBER, PAGE_SIZE);
 
         //When
-        Page<Book> actualBooksPage = bookRepository.findAllByCategoryId(pageable, categoryId);
+        Page<BookWithoutCategoriesDto> actualBooksPage = bookRepository.findAllByCategoryId(
+                pageable, categoryId);
 
         //Then
         assertEquals(1, actualBooksPage.getContent().size(),
@@ -69,7 +70,7 @@ public class BookRepositoryTests {
         Pageable pageable = PageRequest.of(PAGE_NUMBER, PAGE_SIZE);
 
         //When
-        Page<Book> actualBooksPage = bookRepository.findAllByCategoryId(
+        Page<BookWithoutCategoriesDto> actualBooksPage = bookRepository.findAllByCategoryId(
                 pageable, 99L);
 
         //Then
@@ -1,9 +1,14 @@
 package book.store.intro.repository.book;
 
 import static book.store.intro.util.TestBookDataUtil.BOOK_ISBN;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import book.store.intro.dto.book.BookSearchParameters;
@@ -45,7 +50,8 @@ public class BookSpecificationBuilderTests {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        bookSpecificationBuilder = new BookSpecificationBuilder(bookSpecificationProviderManager);
+        bookSpecificationBuilder = new BookSpecificationBuilder(
+                bookSpecificationProviderManager);
     }
 
     @Test
@@ -57,7 +63,7 @@ public class BookSpecificationBuilderTests {
         //Given
         String title = SOME_TITLE;
         BookSearchParameters searchParameters = new BookSearchParameters(
-                title, null, null, null, null);
+                title, null, null, null, null, null);
         Specification<Book> mockTitleSpec = mock(Specification.class);
         when(bookSpecificationProviderManager
                 .getSpecificationProvider(BookSpecificationBuilder.TITLE))
@@ -83,7 +89,7 @@ public class BookSpecificationBuilderTests {
         //Given
         String author = SOME_AUTHOR;
         BookSearchParameters searchParameters = new BookSearchParameters(
-                null, author, null, null, null);
+                null, author, null, null, null, null);
         Specification<Book> mockAuthorSpec = mock(Specification.class);
         when(bookSpecificationProviderManager
                 .getSpecificationProvider(BookSpecificationBuilder.AUTHOR))
@@ -109,7 +115,7 @@ public class BookSpecificationBuilderTests {
         //Given
         String isbn = BOOK_ISBN;
         BookSearchParameters searchParameters = new BookSearchParameters(
-                null, null, isbn, null, null);
+                null, null, isbn, null, null, null);
         Specification<Book> mockIsbnSpec = mock(Specification.class);
         when(bookSpecificationProviderManager
                 .getSpecificationProvider(BookSpecificationBuilder.ISBN))
@@ -137,13 +143,13 @@ public class BookSpecificationBuilderTests {
         BigDecimal bottomPrice = new BigDecimal("10.00");
         BigDecimal upperPrice = new BigDecimal("100.00");
         BookSearchParameters searchParameters = new BookSearchParameters(
-                null, null, null, bottomPrice, upperPrice);
-        String priceRange = "10.00-100.00";
+                null, null, null, bottomPrice, upperPrice, null);
         Specification<Book> mockPriceSpec = mock(Specification.class);
         when(bookSpecificationProviderManager
                 .getSpecificationProvider(BookSpecificationBuilder.PRICE))
                 .thenReturn(priceSpecificationProvider);
-        when(priceSpecificationProvider.getSpecification(priceRange)).thenReturn(mockPriceSpec);
+        when(priceSpecificationProvider.getSpecification("10.00-100.00"))
+                .thenReturn(mockPriceSpec);
 
         //When
         Specification<Book> actualSpec = bookSpecificationBuilder.build(searchParameters);
@@ -152,7 +158,7 @@ public class BookSpecificationBuilderTests {
         assertNotNull(actualSpec);
         verify(bookSpecificationProviderManager)
                 .getSpecificationProvider(BookSpecificationBuilder.PRICE);
-        verify(priceSpecificationProvider).getSpecification(priceRange);
+        verify(priceSpecificationProvider).getSpecification("10.00-100.00");
     }
 
     @Test
@@ -164,22 +170,20 @@ public class BookSpecificationBuilderTests {
         //Given
         BigDecimal bottomPrice = new BigDecimal("10.00");
         BookSearchParameters searchParameters = new BookSearchParameters(
-                null, null, null, bottomPrice, null);
-        String priceRange = "10.00-no_value";
+                null, null, null, bottomPrice, null, null);
         Specification<Book> mockPriceSpec = mock(Specification.class);
         when(bookSpecificationProviderManager
                 .getSpecificationProvider(BookSpecificationBuilder.PRICE))
                 .thenReturn(priceSpecificationProvider);
-        when(priceSpecificationProvider.getSpecification(priceRange)).thenReturn(mockPriceSpec);
+        when(priceSpecificationProvider.getSpecification("10.00-"))
+                .thenReturn(mockPriceSpec);
 
         //When
         Specification<Book> actualSpec = bookSpecificationBuilder.build(searchParameters);
 
         //Then
         assertNotNull(actualSpec);
-        verify(bookSpecificationProviderManager)
-                .getSpecificationProvider(BookSpecificationBuilder.PRICE);
-        verify(priceSpecificationProvider).getSpecification(priceRange);
+        verify(priceSpecificationProvider).getSpecification("10.00-");
     }
 
     @Test
@@ -191,22 +195,39 @@ public class BookSpecificationBuilderTests {
         //Given
         BigDecimal upperPrice = new BigDecimal("100.00");
         BookSearchParameters searchParameters = new BookSearchParameters(
-                null, null, null, null, upperPrice);
-        String priceRange = "no_value-100.00";
+                null, null, null, null, upperPrice, null);
         Specification<Book> mockPriceSpec = mock(Specification.class);
         when(bookSpecificationProviderManager
                 .getSpecificationProvider(BookSpecificationBuilder.PRICE))
                 .thenReturn(priceSpecificationProvider);
-        when(priceSpecificationProvider.getSpecification(priceRange)).thenReturn(mockPriceSpec);
+        when(priceSpecificationProvider.getSpecification("-100.00"))
+                .thenReturn(mockPriceSpec);
 
         //When
         Specification<Book> actualSpec = bookSpecificationBuilder.build(searchParameters);
 
         //Then
         assertNotNull(actualSpec);
-        verify(bookSpecificationProviderManager)
-                .getSpecificationProvider(BookSpecificationBuilder.PRICE);
-        verify(priceSpecificationProvider).getSpecification(priceRange);
+        verify(priceSpecificationProvider).getSpecification("-100.00");
+    }
+
+    @Test
+    @DisplayName("""
+            build():
+             Should build a category specification without consulting the provider registry
+            """)
+    void build_CategoryId_ShouldBuildCategorySpecification() {
+        //Given
+        BookSearchParameters searchParameters = new BookSearchParameters(
+                null, null, null, null, null, 1L);
+
+        //When
+        Specification<Book> actualSpec = bookSpecificationBuilder.build(searchParameters);
+
+        //Then
+        assertNotNull(actualSpec);
+        verify(bookSpecificationProviderManager, never()).getSpecificationProvider(anyString());
+        verifyNoInteractions(priceSpecificationProvider);
     }
 
     @Test
@@ -217,7 +238,7 @@ public class BookSpecificationBuilderTests {
     void build_InvalidParameters_ShouldReturnEmptySpecification() {
         //Given
         BookSearchParameters searchParameters = new BookSearchParameters(
-                null, null, null, null, null);
+                null, null, null, null, null, null);
 
         //When
         Specification<Book> actualSpec = bookSpecificationBuilder.build(searchParameters);
@@ -229,19 +250,37 @@ public class BookSpecificationBuilderTests {
     @Test
     @DisplayName("""
             build():
-             Should return empty specification when empty and negative parameters are provided
+             Should return empty specification when empty parameters are provided
             """)
-    void build_EmptyAndNegativeParameters_ShouldReturnEmptySpecification() {
+    void build_EmptyParameters_ShouldReturnEmptySpecification() {
         //Given
-        BigDecimal bottomPrice = new BigDecimal("-1.00");
-        BigDecimal upperPrice = new BigDecimal("-1.00");
         BookSearchParameters searchParameters = new BookSearchParameters(
-                "", "", "", bottomPrice, upperPrice);
+                "", "", "", null, null, null);
 
         //When
         Specification<Book> actualSpec = bookSpecificationBuilder.build(searchParameters);
 
         //Then
         assertNotNull(actualSpec);
+        verifyNoInteractions(bookSpecificationProviderManager);
+    }
+
+    @Test
+    @DisplayName("""
+            hasTextTerms() and hasFilters():
+             Should tell title and author terms apart from the other filters
+            """)
+    void hasTextTermsAndHasFilters_TextAndIsbn_ShouldDetectBoth() {
+        //Given
+        BookSearchParameters textOnly = new BookSearchParameters(
+                SOME_TITLE, SOME_AUTHOR, null, null, null, null);
+        BookSearchParameters textAndIsbn = new BookSearchParameters(
+                SOME_TITLE, SOME_AUTHOR, BOOK_ISBN, null, null, null);
+
+        //When & Then
+        assertTrue(bookSpecificationBuilder.hasTextTerms(textOnly));
+        assertFalse(bookSpecificationBuilder.hasFilters(textOnly));
+        assertTrue(bookSpecificationBuilder.hasTextTerms(textAndIsbn));
+        assertTrue(bookSpecificationBuilder.hasFilters(textAndIsbn));
     }
 }
@@ -2,7 +2,6 @@ package book.store.intro.repository.book;
 
 import static book.store.intro.repository.book.BookSpecificationBuilder.AUTHOR;
 import static book.store.intro.repository.book.BookSpecificationBuilder.ISBN;
-import static book.store.intro.repository.book.BookSpecificationBuilder.PRICE;
 import static book.store.intro.repository.book.BookSpecificationBuilder.TITLE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -15,7 +14,6 @@ import book.store.intro.model.Book;
 import book.store.intro.repository.SpecificationProvider;
 import book.store.intro.repository.book.spec.AuthorSpecificationProvider;
 import book.store.intro.repository.book.spec.IsbnSpecificationProvider;
-import book.store.intro.repository.book.spec.PriceSpecificationProvider;
 import book.store.intro.repository.book.spec.TitleSpecificationProvider;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,9 +31,6 @@ public class BookSpecificationProviderManagerTests {
     @Mock
     private IsbnSpecificationProvider isbnSpecificationProvider;
 
-    @Mock
-    private PriceSpecificationProvider priceSpecificationProvider;
-
     @Mock
     private TitleSpecificationProvider titleSpecificationProvider;
 
@@ -46,11 +41,10 @@ public class BookSpecificationProviderManagerTests {
     void setUp() {
         lenient().when(authorSpecificationProvider.getKey()).thenReturn(AUTHOR);
         lenient().when(isbnSpecificationProvider.getKey()).thenReturn(ISBN);
-        lenient().when(priceSpecificationProvider.getKey()).thenReturn(PRICE);
         lenient().when(titleSpecificationProvider.getKey()).thenReturn(TITLE);
         bookSpecificationProviderManager = new BookSpecificationProviderManager(
                 List.of(authorSpecificationProvider, isbnSpecificationProvider,
-                        priceSpecificationProvider, titleSpecificationProvider)
+                        titleSpecificationProvider)
         );
     }
 
@@ -90,24 +84,6 @@ public class BookSpecificationProviderManagerTests {
         assertThat(expectedKey).isEqualTo(specificationProvider.getKey());
     }
 
-    @Test
-    @DisplayName("""
-            getSpecificationProvider():
-             Valid key "price" should return the corresponding provider
-            """)
-    void getSpecificationProvider_validKeyPrice_returnsProvider() {
-        //Given
-        String expectedKey = PRICE;
-
-        //When
-        SpecificationProvider<Book> specificationProvider =
-                bookSpecificationProviderManager.getSpecificationProvider(expectedKey);
-
-        //Then
-        assertNotNull(specificationProvider);
-        assertThat(expectedKey).isEqualTo(specificationProvider.getKey());
-    }
-
     @Test
     @DisplayName("""
             getSpecificationProvider():
@@ -147,4 +123,28 @@ public class BookSpecificationProviderManagerTests {
 
         assertEquals(expected, actual);
     }
+
+    @Test
+    @DisplayName("""
+            BookSpecificationProviderManager():
+             Two providers with the same key should fail on startup
+            """)
+    void constructor_duplicateKey_throwsException() {
+        //Given
+        List<SpecificationProvider<Book>> providers =
+                List.of(titleSpecificationProvider, new TitleSpecificationProvider());
+
+        //When
+        Exception exception = assertThrows(IllegalStateException.class, () ->
+                new BookSpecificationProviderManager(providers)
+        );
+
+        //Then
+        String expected = "Duplicate specification provider key " + TITLE + ": "
+                + titleSpecificationProvider.getClass().getName() + " and "
+                + TitleSpecificationProvider.class.getName();
+        String actual = exception.getMessage();
+
+        assertEquals(expected, actual);
+    }
 }
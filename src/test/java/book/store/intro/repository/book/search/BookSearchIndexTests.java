@@ -0,0 +1,198 @@
+package book.store.intro.repository.book.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import book.store.intro.cache.CacheInvalidation;
+import book.store.intro.cache.CacheInvalidationBus;
+import book.store.intro.model.Book;
+import book.store.intro.repository.book.BookRepository;
+import book.store.intro.repository.book.BookTextProjection;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class BookSearchIndexTests {
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private BookSearchIndex bookSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(bookRepository.findAllTextProjections()).thenReturn(List.of(
+                new TestBookText(1L, "Effective Java", "Joshua Bloch", "Best practices"),
+                new TestBookText(2L, "Java Concurrency in Practice", "Brian Goetz", null),
+                new TestBookText(3L, "Clean Code", "Robert Martin",
+                        "Examples are written in Java")
+        ));
+        bookSearchIndex = new BookSearchIndex(bookRepository, cacheInvalidationBus, true);
+        bookSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("""
+            search():
+             Should rank title matches above description matches
+            """)
+    void search_TitleTerm_RanksTitleMatchesFirst() {
+        //When
+        List<Long> actual = bookSearchIndex.search("java", null);
+
+        //Then
+        assertThat(actual).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("""
+            search():
+             Should match terms by prefix and tolerate a single typo
+            """)
+    void search_PrefixAndTypo_ReturnsMatchingBooks() {
+        //When & Then
+        assertThat(bookSearchIndex.search("concur", null)).containsExactly(2L);
+        assertThat(bookSearchIndex.search("efective", null)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("""
+            search():
+             Should require every term of title and author to match
+            """)
+    void search_TitleAndAuthor_ReturnsIntersection() {
+        //When & Then
+        assertThat(bookSearchIndex.search("java", "goetz")).containsExactly(2L);
+        assertThat(bookSearchIndex.search("java clean", "bloch")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("""
+            index() and remove():
+             Should update the index incrementally
+            """)
+    void indexAndRemove_UpdatesIndex() {
+        //Given
+        Book book = new Book();
+        book.setId(4L);
+        book.setTitle("Modern Java in Action");
+        book.setAuthor("Raoul-Gabriel Urma");
+
+        //When
+        bookSearchIndex.index(book);
+        bookSearchIndex.remove(1L);
+
+        //Then
+        assertThat(bookSearchIndex.search("modern", "urma")).containsExactly(4L);
+        assertThat(bookSearchIndex.search("effective", null)).isEmpty();
+        verify(cacheInvalidationBus).publish(
+                CacheInvalidation.evict(BookSearchIndex.OUTBOX_CHANNEL, 4L));
+        verify(cacheInvalidationBus).publish(
+                CacheInvalidation.evict(BookSearchIndex.OUTBOX_CHANNEL, 1L));
+    }
+
+    @Test
+    @DisplayName("""
+            onRemoteChange():
+             Should reload a book changed on another node and drop a deleted one
+            """)
+    void onRemoteChange_ChangedAndDeletedBooks_UpdatesIndexFromDatabase() {
+        //Given
+        when(bookRepository.findTextProjectionById(2L)).thenReturn(Optional.of(
+                new TestBookText(2L, "Java Performance", "Scott Oaks", null)));
+        when(bookRepository.findTextProjectionById(3L)).thenReturn(Optional.empty());
+
+        //When
+        bookSearchIndex.onRemoteChange(
+                CacheInvalidation.evict(BookSearchIndex.OUTBOX_CHANNEL, 2L));
+        bookSearchIndex.onRemoteChange(
+                CacheInvalidation.evict(BookSearchIndex.OUTBOX_CHANNEL, 3L));
+
+        //Then
+        assertThat(bookSearchIndex.search("performance", "oaks")).containsExactly(2L);
+        assertThat(bookSearchIndex.search("concurrency", null)).isEmpty();
+        assertThat(bookSearchIndex.search("clean", null)).isEmpty();
+        verifyNoInteractions(cacheInvalidationBus);
+    }
+
+    @Test
+    @DisplayName("""
+            rebuild():
+             Should keep changes committed while the snapshot was being read
+            """)
+    void rebuild_ChangesDuringSnapshotRead_AreReplayedAfterSwap() {
+        //Given
+        Book book = new Book();
+        book.setId(4L);
+        book.setTitle("Modern Java in Action");
+        book.setAuthor("Raoul-Gabriel Urma");
+
+        when(bookRepository.findAllTextProjections()).thenAnswer(invocation -> {
+            bookSearchIndex.index(book);
+            bookSearchIndex.remove(1L);
+            return List.of(
+                    new TestBookText(1L, "Effective Java", "Joshua Bloch", "Best practices"),
+                    new TestBookText(2L, "Java Concurrency in Practice", "Brian Goetz", null));
+        });
+
+        //When
+        bookSearchIndex.rebuild();
+
+        //Then
+        assertThat(bookSearchIndex.search("java", null)).containsExactlyInAnyOrder(2L, 4L);
+        assertThat(bookSearchIndex.search("effective", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("""
+            isReady():
+             Should report readiness only after the index was built
+            """)
+    void isReady_DisabledIndex_ReturnsFalse() {
+        //Given
+        BookSearchIndex disabledIndex =
+                new BookSearchIndex(bookRepository, cacheInvalidationBus, false);
+
+        //When
+        disabledIndex.rebuild();
+
+        //Then
+        assertFalse(disabledIndex.isReady());
+        assertTrue(bookSearchIndex.isReady());
+    }
+
+    private record TestBookText(Long id, String title, String author, String description)
+            implements BookTextProjection {
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public String getAuthor() {
+            return author;
+        }
+
+        @Override
+        public String getDescription() {
+            return description;
+        }
+    }
+}
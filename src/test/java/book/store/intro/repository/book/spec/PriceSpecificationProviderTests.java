@@ -2,7 +2,6 @@ package book.store.intro.repository.book.spec;
 
 import static book.store.intro.repository.book.BookSpecificationBuilder.PRICE;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.when;
 
@@ -12,6 +11,7 @@ import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import java.math.BigDecimal;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,9 +22,8 @@ import org.springframework.data.jpa.domain.Specification;
 
 @ExtendWith(MockitoExtension.class)
 public class PriceSpecificationProviderTests {
-    private static final String PRICE_SAMPLE = "9.99-29.99";
-    private static final String ONLY_BOTTOM = "9.99-no_value";
-    private static final String ONLY_UPPER = "no_value-29.99";
+    private static final BigDecimal BOTTOM_PRICE = new BigDecimal("9.99");
+    private static final BigDecimal UPPER_PRICE = new BigDecimal("29.99");
 
     @InjectMocks
     private PriceSpecificationProvider priceSpecificationProvider;
@@ -39,43 +38,45 @@ public class PriceSpecificationProviderTests {
     private CriteriaBuilder criteriaBuilder;
 
     @Mock
-    private Path<String> pricePath;
+    private Path<BigDecimal> pricePath;
 
     @Mock
     private Predicate excpectedPredicate;
 
     @Test
     @DisplayName("""
-            getKey():
-             Should return the correct key for Price
+            getSpecification():
+             Should return the correct Predicate when only upper price is provided
             """)
-    void getKey_returnsCorrectKey() {
+    void getSpecification_OnlyUpperPrice_returnsCorrectPredicate() {
         //Given
-        String expectedKey = PRICE;
+        when(root.<BigDecimal>get(PRICE)).thenReturn(pricePath);
+        when(criteriaBuilder.lessThanOrEqualTo(pricePath, UPPER_PRICE))
+                .thenReturn(excpectedPredicate);
 
         //When
-        String actualKey = priceSpecificationProvider.getKey();
+        Specification<Book> bookSpecification =
+                priceSpecificationProvider.getSpecification(null, UPPER_PRICE);
+        Predicate actualPredicate = bookSpecification.toPredicate(root, query, criteriaBuilder);
 
         //Then
-        assertEquals(actualKey, expectedKey);
+        assertThat(actualPredicate).isEqualTo(excpectedPredicate);
     }
 
     @Test
     @DisplayName("""
             getSpecification():
-             Should return the correct Predicate when only upper price is provided
+             Should return the correct Predicate for the price range filter
             """)
-    void getSpecification_OnlyUpperPrice_returnsCorrectPredicate() {
+    void getSpecification_BottomAndUpperPrice_returnsCorrectPredicate() {
         //Given
-        String upperPrice = "29.99";
-
-        when(root.<String>get(PRICE)).thenReturn(pricePath);
-        when(criteriaBuilder.lessThan(pricePath, upperPrice))
+        when(root.<BigDecimal>get(PRICE)).thenReturn(pricePath);
+        when(criteriaBuilder.between(pricePath, BOTTOM_PRICE, UPPER_PRICE))
                 .thenReturn(excpectedPredicate);
 
         //When
         Specification<Book> bookSpecification =
-                priceSpecificationProvider.getSpecification(ONLY_UPPER);
+                priceSpecificationProvider.getSpecification(BOTTOM_PRICE, UPPER_PRICE);
         Predicate actualPredicate = bookSpecification.toPredicate(root, query, criteriaBuilder);
 
         //Then
@@ -85,46 +86,42 @@ public class PriceSpecificationProviderTests {
     @Test
     @DisplayName("""
             getSpecification():
-             Should return the correct Predicate for the price range filter
+             Should return the correct Predicate when only bottom price is provided
             """)
-    void getSpecification_BottomAndUpperPrice_returnsCorrectPredicate() {
+    void getSpecification_OnlyBottomPrice_returnsCorrectPredicate() {
         //Given
-        String bottomPrice = "9.99";
-        String upperPrice = "29.99";
-
-        when(root.<String>get(PRICE)).thenReturn(pricePath);
-        when(criteriaBuilder.between(pricePath, bottomPrice, upperPrice))
+        when(root.<BigDecimal>get(PRICE)).thenReturn(pricePath);
+        when(criteriaBuilder.greaterThanOrEqualTo(pricePath, BOTTOM_PRICE))
                 .thenReturn(excpectedPredicate);
 
         //When
         Specification<Book> bookSpecification =
-                priceSpecificationProvider.getSpecification(PRICE_SAMPLE);
+                priceSpecificationProvider.getSpecification(BOTTOM_PRICE, null);
         Predicate actualPredicate = bookSpecification.toPredicate(root, query, criteriaBuilder);
 
         //Then
+        assertNotNull(actualPredicate);
         assertThat(actualPredicate).isEqualTo(excpectedPredicate);
     }
 
     @Test
     @DisplayName("""
             getSpecification():
-             Should return the correct Predicate when only bottom price is provided
+             Should parse typed bounds from registry parameters
             """)
-    void getSpecification_OnlyBottomPrice_returnsCorrectPredicate() {
+    void getSpecification_RegistryParams_returnsCorrectPredicate() {
         //Given
-        String bottomPrice = "9.99";
-
-        when(root.<String>get(PRICE)).thenReturn(pricePath);
-        when(criteriaBuilder.greaterThan(pricePath, bottomPrice))
+        when(root.<BigDecimal>get(PRICE)).thenReturn(pricePath);
+        when(criteriaBuilder.between(pricePath, BOTTOM_PRICE, UPPER_PRICE))
                 .thenReturn(excpectedPredicate);
 
         //When
         Specification<Book> bookSpecification =
-                priceSpecificationProvider.getSpecification(ONLY_BOTTOM);
+                priceSpecificationProvider.getSpecification("9.99-29.99");
         Predicate actualPredicate = bookSpecification.toPredicate(root, query, criteriaBuilder);
 
         //Then
-        assertNotNull(actualPredicate);
+        assertThat(priceSpecificationProvider.getKey()).isEqualTo(PRICE);
         assertThat(actualPredicate).isEqualTo(excpectedPredicate);
     }
 }
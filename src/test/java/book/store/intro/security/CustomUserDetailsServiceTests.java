@@ -3,18 +3,22 @@ package book.store.intro.security;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import book.store.intro.exceptions.EntityNotFoundException;
 import book.store.intro.model.User;
 import book.store.intro.repository.user.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -26,6 +30,10 @@ public class CustomUserDetailsServiceTests {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private UserPrincipalCache userPrincipalCache = new UserPrincipalCache(
+            new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+
     @Test
     @DisplayName("""
             loadUserByUsername():
@@ -70,4 +78,50 @@ public class CustomUserDetailsServiceTests {
         assertEquals("Can't find user by email:" + invalidEmail, exception.getMessage());
         verify(userRepository).findByEmail(invalidEmail);
     }
+
+    @Test
+    @DisplayName("""
+            loadUserByUsername():
+             should load the user from the database only once while it is cached
+            """)
+    void loadUserByUsername_RepeatedCalls_LoadsUserOnce() {
+        // Given
+        String validEmail = "valid@gmail.com";
+        User user = new User();
+        user.setId(1L);
+        user.setEmail(validEmail);
+
+        when(userRepository.findByEmail(validEmail)).thenReturn(Optional.of(user));
+
+        // When
+        customUserDetailsService.loadUserByUsername(validEmail);
+        UserDetails userDetails = customUserDetailsService.loadUserByUsername(validEmail);
+
+        // Then
+        assertEquals(validEmail, userDetails.getUsername());
+        verify(userRepository, times(1)).findByEmail(validEmail);
+    }
+
+    @Test
+    @DisplayName("""
+            loadUserByUsername():
+             should reload the user from the database after the cache entry is invalidated
+            """)
+    void loadUserByUsername_InvalidatedUser_ReloadsUser() {
+        // Given
+        String validEmail = "valid@gmail.com";
+        User user = new User();
+        user.setId(1L);
+        user.setEmail(validEmail);
+
+        when(userRepository.findByEmail(validEmail)).thenReturn(Optional.of(user));
+
+        // When
+        customUserDetailsService.loadUserByUsername(validEmail);
+        userPrincipalCache.invalidate(user.getId());
+        customUserDetailsService.loadUserByUsername(validEmail);
+
+        // Then
+        verify(userRepository, times(2)).findByEmail(validEmail);
+    }
 }
@@ -2,14 +2,17 @@ package book.store.intro.security;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.time.Instant;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,7 +31,7 @@ public class JwtAuthenticationFilterTests {
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
     @Mock
-    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
 
     @Mock
     private UserDetailsService userDetailsService;
@@ -56,16 +59,15 @@ public class JwtAuthenticationFilterTests {
         String username = "valid@gmail.com";
 
         when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + validToken);
-        when(jwtUtil.isValidToken(validToken)).thenReturn(true);
-        when(jwtUtil.getUsername(validToken)).thenReturn(username);
+        when(verifiedTokenCache.getVerifiedToken(validToken))
+                .thenReturn(new VerifiedToken(username, Instant.now().plusSeconds(60)));
         when(userDetailsService.loadUserByUsername(username)).thenReturn(userDetails);
 
         //When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         //Then
-        verify(jwtUtil).isValidToken(validToken);
-        verify(jwtUtil).getUsername(validToken);
+        verify(verifiedTokenCache).getVerifiedToken(validToken);
         verify(userDetailsService).loadUserByUsername(username);
         verify(filterChain).doFilter(request, response);
     }
@@ -99,27 +101,27 @@ public class JwtAuthenticationFilterTests {
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         //Then
-        verify(jwtUtil, never()).isValidToken(anyString());
+        verify(verifiedTokenCache, never()).getVerifiedToken(anyString());
         verify(filterChain).doFilter(request, response);
     }
 
     @Test
     @DisplayName("""
             doFilterInternal():
-             Should not authenticate when token is invalid
+             Should reject the request when token is invalid
             """)
     void doFilterInternal_invalidToken() throws Exception {
         //Given
         String invalidToken = "invalidToken";
         when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + invalidToken);
-        when(jwtUtil.isValidToken(invalidToken)).thenReturn(false);
-
-        //When
-        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
-
-        //Then
-        verify(jwtUtil).isValidToken(invalidToken);
-        verify(filterChain).doFilter(request, response);
+        when(verifiedTokenCache.getVerifiedToken(invalidToken))
+                .thenThrow(new JwtException("Expired or invalid JWT token"));
+
+        //When & Then
+        assertThrows(JwtException.class, () ->
+                jwtAuthenticationFilter.doFilterInternal(request, response, filterChain));
+        verify(verifiedTokenCache).getVerifiedToken(invalidToken);
+        verify(filterChain, never()).doFilter(request, response);
     }
 
     @Test
@@ -132,16 +134,15 @@ public class JwtAuthenticationFilterTests {
         String validToken = "validToken";
         String username = "valid@gmail.com";
         when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + validToken);
-        when(jwtUtil.isValidToken(validToken)).thenReturn(true);
-        when(jwtUtil.getUsername(validToken)).thenReturn(username);
+        when(verifiedTokenCache.getVerifiedToken(validToken))
+                .thenReturn(new VerifiedToken(username, Instant.now().plusSeconds(60)));
         when(userDetailsService.loadUserByUsername(username)).thenReturn(userDetails);
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // Then
-        verify(jwtUtil).isValidToken(validToken);
-        verify(jwtUtil).getUsername(validToken);
+        verify(verifiedTokenCache).getVerifiedToken(validToken);
         verify(userDetailsService).loadUserByUsername(username);
         verify(filterChain).doFilter(request, response);
 
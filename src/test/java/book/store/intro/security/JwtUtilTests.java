@@ -11,6 +11,7 @@ import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -59,41 +60,45 @@ public class JwtUtilTests {
 
     @Test
     @DisplayName("""
-            isValidToken():
-             Should return true when a valid token is provided
+            verify():
+             Should return the subject when a valid token is provided
             """)
-    void isValidToken_ValidToken_ShouldReturnTrue() {
+    void verify_ValidToken_ShouldReturnSubject() {
         //Given
         String token = validToken;
 
-        //When & Then
-        assertTrue(jwtUtil.isValidToken(validToken));
+        //When
+        VerifiedToken verifiedToken = jwtUtil.verify(token);
+
+        //Then
+        assertEquals(USER_EMAIL, verifiedToken.subject());
+        assertTrue(verifiedToken.expiresAt().isAfter(Instant.now()));
     }
 
     @Test
     @DisplayName("""
-            isValidToken():
+            verify():
              Should throw JwtException when an expired token is provided
             """)
-    void isValidToken_ExpiredToken_ShouldThrowException() {
+    void verify_ExpiredToken_ShouldThrowException() {
         //Given
         String token = expiredToken;
 
         //When & Then
-        assertThrows(JwtException.class, () -> jwtUtil.isValidToken(expiredToken));
+        assertThrows(JwtException.class, () -> jwtUtil.verify(token));
     }
 
     @Test
     @DisplayName("""
-            isValidToken():
+            verify():
              Should throw JwtException when an invalid token is provided
             """)
-    void isValidToken_InvalidToken_ShouldThrowException() {
+    void verify_InvalidToken_ShouldThrowException() {
         //Given
         String token = "invalidToken";
 
         //When & Then
-        assertThrows(JwtException.class, () -> jwtUtil.isValidToken(token));
+        assertThrows(JwtException.class, () -> jwtUtil.verify(token));
     }
 
     @Test
@@ -0,0 +1,67 @@
+package book.store.intro.security;
+
+import static book.store.intro.util.TestUserDataUtil.USER_EMAIL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class VerifiedTokenCacheTests {
+    private static final String SECRET_KEY = "securesecuresecuresecuresecuresecure";
+    private static final long EXPIRATION_TIME = 100000L;
+    private static final long MAX_SIZE = 100L;
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = spy(new JwtUtil(SECRET_KEY));
+        ReflectionTestUtils.setField(jwtUtil, "expiration", EXPIRATION_TIME);
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), MAX_SIZE);
+    }
+
+    @Test
+    @DisplayName("""
+            getVerifiedToken():
+             Should verify the signature only once for repeated requests with the same token
+            """)
+    void getVerifiedToken_SameToken_VerifiesOnce() {
+        //Given
+        String token = jwtUtil.generateToken(USER_EMAIL);
+
+        //When
+        VerifiedToken first = verifiedTokenCache.getVerifiedToken(token);
+        VerifiedToken second = verifiedTokenCache.getVerifiedToken(token);
+
+        //Then
+        assertEquals(USER_EMAIL, first.subject());
+        assertEquals(first, second);
+        verify(jwtUtil, times(1)).verify(token);
+        assertEquals(1, verifiedTokenCache.stats().hitCount());
+        assertEquals(1, verifiedTokenCache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("""
+            getVerifiedToken():
+             Should throw JwtException and cache nothing when the token is invalid
+            """)
+    void getVerifiedToken_InvalidToken_ShouldThrowException() {
+        //Given
+        String token = "invalidToken";
+
+        //When & Then
+        assertThrows(JwtException.class, () -> verifiedTokenCache.getVerifiedToken(token));
+        assertThrows(JwtException.class, () -> verifiedTokenCache.getVerifiedToken(token));
+        verify(jwtUtil, times(2)).verify(token);
+    }
+}
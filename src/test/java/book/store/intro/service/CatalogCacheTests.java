@@ -0,0 +1,106 @@
+package book.store.intro.service;
+
+import static book.store.intro.config.CacheConfig.BOOKS;
+import static book.store.intro.util.TestBookDataUtil.DEFAULT_ID_SAMPLE;
+import static book.store.intro.util.TestBookDataUtil.createBookRequestDtoSample;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import book.store.intro.dto.book.BookDto;
+import book.store.intro.dto.book.CreateBookRequestDto;
+import book.store.intro.exceptions.EntityNotFoundException;
+import book.store.intro.service.book.BookService;
+import book.store.intro.service.category.CategoryService;
+import book.store.intro.util.AbstractStatementCountTests;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest(properties = {
+        "catalog.cache.books.spec=maximumSize=100,expireAfterWrite=10m",
+        "catalog.cache.categories.spec=maximumSize=100,expireAfterWrite=10m",
+        "catalog.cache.category-pages.spec=maximumSize=100,expireAfterWrite=10m"
+})
+@Sql(scripts = {
+        "classpath:database/categories/insert_one_category.sql",
+        "classpath:database/books/insert_one_book.sql",
+        "classpath:database/books_categories/insert_book_category_relation_for_one_book.sql"
+}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:database/clear_database.sql",
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class CatalogCacheTests extends AbstractStatementCountTests {
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    @DisplayName("""
+            getById():
+             Should serve repeated book reads from the cache
+            """)
+    void getById_RepeatedReads_HitsDatabaseOnce() {
+        //When
+        BookDto first = bookService.getById(DEFAULT_ID_SAMPLE);
+        long statementsAfterFirstRead = statistics.getPrepareStatementCount();
+        BookDto second = bookService.getById(DEFAULT_ID_SAMPLE);
+
+        //Then
+        assertEquals(first, second);
+        assertEquals(statementsAfterFirstRead, statistics.getPrepareStatementCount());
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", BOOKS).functionCounter());
+    }
+
+    @Test
+    @DisplayName("""
+            updateById():
+             Should never serve a stale book after an update on the same node
+            """)
+    void updateById_CachedBook_ReturnsUpdatedBook() {
+        //Given
+        bookService.getById(DEFAULT_ID_SAMPLE);
+        CreateBookRequestDto requestDto = createBookRequestDtoSample();
+        requestDto.setTitle("UpdatedTitle");
+
+        //When
+        bookService.updateById(DEFAULT_ID_SAMPLE, requestDto);
+
+        //Then
+        assertEquals("UpdatedTitle", bookService.getById(DEFAULT_ID_SAMPLE).getTitle());
+    }
+
+    @Test
+    @DisplayName("""
+            deleteById():
+             Should evict a cached category when it is deleted
+            """)
+    void deleteById_CachedCategory_EvictsCategory() {
+        //Given
+        categoryService.getById(DEFAULT_ID_SAMPLE);
+
+        //When
+        categoryService.deleteById(DEFAULT_ID_SAMPLE);
+
+        //Then
+        assertThrows(EntityNotFoundException.class,
+                () -> categoryService.getById(DEFAULT_ID_SAMPLE));
+    }
+}
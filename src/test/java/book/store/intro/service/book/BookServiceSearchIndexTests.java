@@ -0,0 +1,80 @@
+package book.store.intro.service.book;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import book.store.intro.dto.book.BookDto;
+import book.store.intro.dto.book.BookSearchParameters;
+import book.store.intro.repository.book.search.BookSearchIndex;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest(properties = "book.search.index.enabled=true")
+@Sql(scripts = "classpath:database/books/insert_four_searchable_books.sql",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:database/clear_database.sql",
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class BookServiceSearchIndexTests {
+    private static final String JAVA = "java";
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookSearchIndex bookSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        bookSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("""
+            search():
+             Should page over the index matches in rank order with the full match count
+            """)
+    void search_TextTermsOnly_PagesRankedMatches() {
+        //Given
+        BookSearchParameters searchParameters = new BookSearchParameters(
+                JAVA, null, null, null, null, null);
+
+        //When
+        Page<BookDto> firstPage = bookService.search(searchParameters, PageRequest.of(0, 2));
+        Page<BookDto> secondPage = bookService.search(searchParameters, PageRequest.of(1, 2));
+
+        //Then
+        assertThat(firstPage.getContent()).extracting(BookDto::getId).containsExactly(2L, 3L);
+        assertThat(secondPage.getContent()).extracting(BookDto::getId).containsExactly(1L);
+        assertEquals(3, firstPage.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("""
+            search():
+             Should filter and sort in the database when a filter or sort is given
+            """)
+    void search_TextTermsWithFilterOrSort_SearchesDatabase() {
+        //Given
+        BookSearchParameters withPrice = new BookSearchParameters(
+                JAVA, null, null, new BigDecimal("46.00"), null, null);
+        BookSearchParameters textOnly = new BookSearchParameters(
+                JAVA, null, null, null, null, null);
+
+        //When
+        Page<BookDto> filtered = bookService.search(withPrice, PageRequest.of(0, 10));
+        Page<BookDto> sorted = bookService.search(textOnly,
+                PageRequest.of(0, 10, Sort.by("price").descending()));
+
+        //Then
+        assertThat(filtered.getContent()).extracting(BookDto::getId).containsExactly(3L);
+        assertThat(sorted.getContent()).extracting(BookDto::getId).containsExactly(3L, 2L);
+    }
+}
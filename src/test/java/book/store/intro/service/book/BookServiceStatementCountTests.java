@@ -0,0 +1,128 @@
+package book.store.intro.service.book;
+
+import static book.store.intro.util.TestBookDataUtil.PAGE_NUMBER;
+import static book.store.intro.util.TestBookDataUtil.PAGE_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import book.store.intro.dto.book.BookDto;
+import book.store.intro.dto.book.BookSearchParameters;
+import book.store.intro.model.PageResponse;
+import book.store.intro.util.AbstractStatementCountTests;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@Sql(scripts = {
+        "classpath:database/categories/insert_three_categories.sql",
+        "classpath:database/books/insert_twelve_books.sql",
+        "classpath:database/books_categories/insert_book_category_relation_for_twelve_books.sql"
+}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:database/clear_database.sql",
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class BookServiceStatementCountTests extends AbstractStatementCountTests {
+    private static final long PAGE_STATEMENTS = 3;
+    private static final long PAGE_WITHOUT_TOTAL_STATEMENTS = 2;
+
+    @Autowired
+    private BookService bookService;
+
+    @Test
+    @DisplayName("""
+            getAll():
+             Should load a page of books with their category ids in a constant number of statements
+            """)
+    void getAll_FullPage_UsesConstantStatementCount() {
+        //When
+        Page<BookDto> actual = bookService.getAll(PageRequest.of(PAGE_NUMBER, PAGE_SIZE));
+
+        //Then
+        assertEquals(PAGE_SIZE, actual.getNumberOfElements());
+        assertFalse(actual.getContent().getFirst().getCategoryIds().isEmpty());
+        assertEquals(PAGE_STATEMENTS, statistics.getPrepareStatementCount(),
+                "Expected page, count and category batch queries only");
+        assertEquals(0, statistics.getEntityLoadCount(),
+                "Expected the page to be read as DTO projections");
+    }
+
+    @Test
+    @DisplayName("""
+            getAll():
+             Should read the page in a read-only session without flushing it
+            """)
+    void getAll_FullPage_SkipsFlush() {
+        //When
+        bookService.getAll(PageRequest.of(PAGE_NUMBER, PAGE_SIZE));
+
+        //Then
+        assertEquals(0, statistics.getFlushCount(),
+                "Expected no dirty checking flush for a read-only transaction");
+    }
+
+    @Test
+    @DisplayName("""
+            getVersion():
+             Should read the version in a single statement without loading the book
+            """)
+    void getVersion_ExistingBook_SkipsEntityLoad() {
+        //When
+        long actual = bookService.getVersion(1L);
+
+        //Then
+        assertEquals(0, actual);
+        assertEquals(1, statistics.getPrepareStatementCount(),
+                "Expected a single version query");
+        assertEquals(0, statistics.getEntityLoadCount(),
+                "Expected the book not to be loaded");
+    }
+
+    @Test
+    @DisplayName("""
+            search():
+             Should load a page of found books with their category ids in a constant number
+             of statements
+            """)
+    void search_FullPage_UsesConstantStatementCount() {
+        //Given
+        BookSearchParameters searchParameters = new BookSearchParameters(
+                null, null, null, null, null, null);
+
+        //When
+        Page<BookDto> actual = bookService.search(
+                searchParameters, PageRequest.of(PAGE_NUMBER, PAGE_SIZE));
+
+        //Then
+        assertEquals(PAGE_SIZE, actual.getNumberOfElements());
+        assertFalse(actual.getContent().getFirst().getCategoryIds().isEmpty());
+        assertEquals(PAGE_STATEMENTS, statistics.getPrepareStatementCount(),
+                "Expected page, count and category batch queries only");
+    }
+
+    @Test
+    @DisplayName("""
+            searchWithoutTotal():
+             Should load a page of found books without running a count query
+            """)
+    void searchWithoutTotal_FullPage_SkipsCountQuery() {
+        //Given
+        BookSearchParameters searchParameters = new BookSearchParameters(
+                null, null, null, null, null, null);
+
+        //When
+        PageResponse<BookDto> actual = bookService.searchWithoutTotal(
+                searchParameters, PageRequest.of(PAGE_NUMBER, PAGE_SIZE));
+
+        //Then
+        assertEquals(PAGE_SIZE, actual.getContent().size());
+        assertNull(actual.getTotalElements());
+        assertFalse(actual.isLast());
+        assertEquals(PAGE_WITHOUT_TOTAL_STATEMENTS, statistics.getPrepareStatementCount(),
+                "Expected page and category batch queries only");
+    }
+}
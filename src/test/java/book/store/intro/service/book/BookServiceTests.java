@@ -1,7 +1,9 @@
 package book.store.intro.service.book;
 
+import static book.store.intro.config.CacheConfig.BOOKS;
 import static book.store.intro.util.TestBookDataUtil.PAGE_NUMBER;
 import static book.store.intro.util.TestBookDataUtil.PAGE_SIZE;
+import static book.store.intro.util.TestBookDataUtil.createBookDtoProjectionSampleFromEntity;
 import static book.store.intro.util.TestBookDataUtil.createBookDtoSampleFromEntity;
 import static book.store.intro.util.TestBookDataUtil.createBookRequestDtoSample;
 import static book.store.intro.util.TestBookDataUtil.createDefaultBookSample;
@@ -9,18 +11,27 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import book.store.intro.cache.CacheInvalidation;
+import book.store.intro.cache.CacheInvalidationBus;
 import book.store.intro.dto.book.BookDto;
 import book.store.intro.dto.book.BookSearchParameters;
 import book.store.intro.dto.book.CreateBookRequestDto;
 import book.store.intro.exceptions.EntityNotFoundException;
 import book.store.intro.mapper.BookMapper;
 import book.store.intro.model.Book;
+import book.store.intro.model.PageResponse;
+import book.store.intro.repository.book.BookCategoryId;
+import book.store.intro.repository.book.BookCountCache;
 import book.store.intro.repository.book.BookRepository;
 import book.store.intro.repository.book.BookSpecificationBuilder;
+import book.store.intro.repository.book.search.BookSearchIndex;
+import book.store.intro.service.catalog.CatalogGenerationService;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -29,10 +40,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,6 +66,21 @@ public class BookServiceTests {
     @Mock
     private BookSpecificationBuilder bookSpecificationBuilder;
 
+    @Mock
+    private BookSearchIndex bookSearchIndex;
+
+    @Mock
+    private BookCountCache bookCountCache;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private CatalogGenerationService catalogGenerationService;
+
+    @Mock
+    private CacheManager cacheManager;
+
     @Test
     @DisplayName("""
             getAll():
@@ -57,24 +89,83 @@ public class BookServiceTests {
     void getAll_ValidPageable_ReturnsAllBooks() {
         //Given
         Pageable pageable = PageRequest.of(PAGE_NUMBER, PAGE_SIZE);
-        Book book = createDefaultBookSample();
-        BookDto expectedBookDto = createBookDtoSampleFromEntity(book);
+        BookDto bookDto = createBookDtoProjectionSampleFromEntity(createDefaultBookSample());
+        Long bookId = bookDto.getId();
 
-        List<Book> books = List.of(book);
-        Page<Book> bookPage = new PageImpl<>(books, pageable, books.size());
+        List<BookDto> bookDtos = List.of(bookDto);
+        Slice<BookDto> bookSlice = new SliceImpl<>(bookDtos, pageable, false);
 
-        when(bookRepository.findAll(pageable)).thenReturn(bookPage);
-        when(bookMapper.toDto(book)).thenReturn(expectedBookDto);
+        when(bookRepository.findSliceBy(pageable)).thenReturn(bookSlice);
+        when(bookRepository.findCategoryIdsByBookIdIn(List.of(bookId)))
+                .thenReturn(List.of(new BookCategoryId(bookId, 1L),
+                        new BookCategoryId(bookId, 2L)));
 
         //When
         Page<BookDto> actualBookDtosPage = bookService.getAll(pageable);
 
         //Then
         assertThat(actualBookDtosPage).hasSize(1);
-        assertThat(actualBookDtosPage.getContent().getFirst()).isEqualTo(expectedBookDto);
-        verify(bookRepository).findAll(pageable);
-        verify(bookMapper).toDto(book);
-        verifyNoMoreInteractions(bookRepository, bookMapper);
+        assertThat(actualBookDtosPage.getTotalElements()).isEqualTo(bookDtos.size());
+        assertThat(actualBookDtosPage.getContent().getFirst()).isEqualTo(bookDto);
+        assertThat(bookDto.getCategoryIds()).containsExactly(1L, 2L);
+        verify(bookRepository).findSliceBy(pageable);
+        verify(bookRepository).findCategoryIdsByBookIdIn(List.of(bookId));
+        verifyNoInteractions(bookCountCache, bookMapper);
+        verifyNoMoreInteractions(bookRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            getAll():
+             Should take the total from the cached book count when the page is full
+            """)
+    void getAll_FullPage_UsesCachedCount() {
+        //Given
+        Pageable pageable = PageRequest.of(PAGE_NUMBER, 1);
+        BookDto bookDto = createBookDtoProjectionSampleFromEntity(createDefaultBookSample());
+        long cachedCount = 42L;
+
+        Slice<BookDto> bookSlice = new SliceImpl<>(List.of(bookDto), pageable, true);
+
+        when(bookRepository.findSliceBy(pageable)).thenReturn(bookSlice);
+        when(bookRepository.findCategoryIdsByBookIdIn(List.of(bookDto.getId())))
+                .thenReturn(List.of());
+        when(bookCountCache.count()).thenReturn(cachedCount);
+
+        //When
+        Page<BookDto> actualBookDtosPage = bookService.getAll(pageable);
+
+        //Then
+        assertThat(actualBookDtosPage.getTotalElements()).isEqualTo(cachedCount);
+        verify(bookCountCache).count();
+        verify(bookRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("""
+            getAllWithoutTotal():
+             Should return a page response without total elements
+            """)
+    void getAllWithoutTotal_ValidPageable_ReturnsPageWithoutTotal() {
+        //Given
+        Pageable pageable = PageRequest.of(PAGE_NUMBER, PAGE_SIZE);
+        BookDto bookDto = createBookDtoProjectionSampleFromEntity(createDefaultBookSample());
+
+        Slice<BookDto> bookSlice = new SliceImpl<>(List.of(bookDto), pageable, false);
+
+        when(bookRepository.findSliceBy(pageable)).thenReturn(bookSlice);
+        when(bookRepository.findCategoryIdsByBookIdIn(List.of(bookDto.getId())))
+                .thenReturn(List.of());
+
+        //When
+        PageResponse<BookDto> actual = bookService.getAllWithoutTotal(pageable);
+
+        //Then
+        assertThat(actual.getContent()).containsExactly(bookDto);
+        assertThat(bookDto.getCategoryIds()).isEmpty();
+        assertThat(actual.getTotalElements()).isNull();
+        assertThat(actual.isLast()).isTrue();
+        verifyNoInteractions(bookCountCache);
     }
 
     @Test
@@ -101,6 +192,49 @@ public class BookServiceTests {
         verifyNoMoreInteractions(bookRepository, bookMapper);
     }
 
+    @Test
+    @DisplayName("""
+            getVersion():
+             Should return the version without loading the book
+            """)
+    void getVersion_WithValidBookId_ReturnsVersion() {
+        //Given
+        Long bookId = 1L;
+        when(cacheManager.getCache(BOOKS)).thenReturn(new ConcurrentMapCache(BOOKS));
+        when(bookRepository.findVersionById(bookId)).thenReturn(Optional.of(3L));
+
+        //When
+        long actual = bookService.getVersion(bookId);
+
+        //Then
+        assertEquals(3L, actual);
+        verify(bookRepository).findVersionById(bookId);
+        verifyNoMoreInteractions(bookRepository);
+        verifyNoInteractions(bookMapper);
+    }
+
+    @Test
+    @DisplayName("""
+            getVersion():
+             Should return the version of the cached book without querying the database
+            """)
+    void getVersion_CachedBook_SkipsRepository() {
+        //Given
+        Long bookId = 1L;
+        BookDto cached = new BookDto();
+        cached.setVersion(3L);
+        Cache cache = new ConcurrentMapCache(BOOKS);
+        cache.put(bookId, cached);
+        when(cacheManager.getCache(BOOKS)).thenReturn(cache);
+
+        //When
+        long actual = bookService.getVersion(bookId);
+
+        //Then
+        assertEquals(3L, actual);
+        verifyNoInteractions(bookRepository, bookMapper);
+    }
+
     @Test
     @DisplayName("""
             geById():
@@ -134,10 +268,11 @@ public class BookServiceTests {
     void search_WithValidParameters_ShouldReturnPageOfBookDtos() {
         //Given
         BookSearchParameters searchParameters = new BookSearchParameters(
-                "Java", null, null, null, null
+                "Java", null, null, null, null, null
         );
         Specification<Book> bookSpecification = bookSpecificationBuilder.build(searchParameters);
-        Pageable pageable = PageRequest.of(PAGE_NUMBER, PAGE_SIZE);
+        Pageable sortedPageable = PageRequest.of(PAGE_NUMBER, PAGE_SIZE,
+                Sort.by("title", "author"));
 
         Book bookSampleWithTitleJava = createDefaultBookSample();
         bookSampleWithTitleJava.setTitle("Java");
@@ -145,22 +280,97 @@ public class BookServiceTests {
         BookDto expectedBookDto = createBookDtoSampleFromEntity(bookSampleWithTitleJava);
 
         List<Book> books = List.of(bookSampleWithTitleJava);
-        Page<Book> bookPage = new PageImpl<>(books, pageable, 1);
+        Page<Book> bookPage = new PageImpl<>(books, sortedPageable, 1);
 
-        when(bookRepository.findAll(eq(bookSpecification), eq(pageable))).thenReturn(bookPage);
+        when(bookRepository.findAll(eq(bookSpecification), eq(sortedPageable)))
+                .thenReturn(bookPage);
+        when(bookRepository.findAllWithCategoriesByIdIn(
+                List.of(bookSampleWithTitleJava.getId()))).thenReturn(books);
         when(bookMapper.toDto(bookSampleWithTitleJava)).thenReturn(expectedBookDto);
 
+        Pageable pageable = PageRequest.of(PAGE_NUMBER, PAGE_SIZE);
+
         //When
         Page<BookDto> actualBookDtosPage = bookService.search(searchParameters, pageable);
 
         //Then
         assertThat(actualBookDtosPage).hasSize(1);
         assertThat(actualBookDtosPage.getContent().getFirst()).isEqualTo(expectedBookDto);
-        verify(bookRepository).findAll(bookSpecification, pageable);
+        verify(bookRepository).findAll(bookSpecification, sortedPageable);
+        verify(bookRepository).findAllWithCategoriesByIdIn(
+                List.of(bookSampleWithTitleJava.getId()));
         verify(bookMapper).toDto(bookSampleWithTitleJava);
         verifyNoMoreInteractions(bookRepository, bookMapper);
     }
 
+    @Test
+    @DisplayName("""
+            search():
+             Should page over the ranked index matches and keep their rank order
+            """)
+    void search_IndexReady_ReturnsPageInRankOrder() {
+        //Given
+        BookSearchParameters searchParameters = new BookSearchParameters(
+                "Java", null, null, null, null, null
+        );
+        Book first = createDefaultBookSample();
+        first.setId(3L);
+        Book second = createDefaultBookSample();
+        second.setId(1L);
+        BookDto firstDto = createBookDtoSampleFromEntity(first);
+        BookDto secondDto = createBookDtoSampleFromEntity(second);
+
+        when(bookSpecificationBuilder.hasTextTerms(searchParameters)).thenReturn(true);
+        when(bookSearchIndex.isReady()).thenReturn(true);
+        when(bookSearchIndex.search("Java", null)).thenReturn(List.of(3L, 1L, 2L));
+        when(bookRepository.findAllWithCategoriesByIdIn(List.of(3L, 1L)))
+                .thenReturn(List.of(second, first));
+        when(bookMapper.toDto(first)).thenReturn(firstDto);
+        when(bookMapper.toDto(second)).thenReturn(secondDto);
+
+        Pageable pageable = PageRequest.of(0, 2);
+
+        //When
+        Page<BookDto> actual = bookService.search(searchParameters, pageable);
+
+        //Then
+        assertThat(actual.getContent()).containsExactly(firstDto, secondDto);
+        assertThat(actual.getTotalElements()).isEqualTo(3);
+        verify(bookRepository).findAllWithCategoriesByIdIn(List.of(3L, 1L));
+        verifyNoMoreInteractions(bookRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            search():
+             Should search in the database when a sort is requested with the text terms
+            """)
+    void search_IndexReadyWithSort_SearchesDatabase() {
+        //Given
+        BookSearchParameters searchParameters = new BookSearchParameters(
+                "Java", null, null, null, null, null
+        );
+        Specification<Book> specification = (root, query, criteriaBuilder) -> null;
+        Book book = createDefaultBookSample();
+        BookDto bookDto = createBookDtoSampleFromEntity(book);
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("price"));
+
+        when(bookSpecificationBuilder.build(searchParameters)).thenReturn(specification);
+        when(bookRepository.findAll(specification, pageable))
+                .thenReturn(new PageImpl<>(List.of(book), pageable, 2));
+        when(bookRepository.findAllWithCategoriesByIdIn(List.of(book.getId())))
+                .thenReturn(List.of(book));
+        when(bookMapper.toDto(book)).thenReturn(bookDto);
+
+        //When
+        Page<BookDto> actual = bookService.search(searchParameters, pageable);
+
+        //Then
+        assertThat(actual.getContent()).containsExactly(bookDto);
+        assertThat(actual.getTotalElements()).isEqualTo(2);
+        verifyNoInteractions(bookSearchIndex);
+    }
+
     @Test
     @DisplayName("""
             create():
@@ -182,6 +392,8 @@ public class BookServiceTests {
         //Then
         assertThat(actualBookDto).isEqualTo(expectedBookDto);
         verify(bookRepository).save(book);
+        verify(bookSearchIndex).index(book);
+        verify(catalogGenerationService).increment();
         verifyNoMoreInteractions(bookRepository, bookMapper);
     }
 
@@ -207,7 +419,8 @@ public class BookServiceTests {
         Long bookId = 1L;
 
         when(bookRepository.findById(bookId)).thenReturn(Optional.of(existingBook));
-        when(bookMapper.toDto(bookRepository.save(updatedBook))).thenReturn(expectedBookDto);
+        when(bookMapper.toDto(bookRepository.saveAndFlush(updatedBook)))
+                .thenReturn(expectedBookDto);
 
         // When
         BookDto actualBookDto = bookService.updateById(bookId, requestDto);
@@ -215,8 +428,9 @@ public class BookServiceTests {
         // Then
         assertThat(actualBookDto).isEqualTo(expectedBookDto);
         verify(bookRepository).findById(bookId);
-        verify(bookRepository).save(updatedBook);
-        verify(bookMapper).toDto(bookRepository.save(updatedBook));
+        verify(bookRepository).saveAndFlush(updatedBook);
+        verify(bookMapper).toDto(bookRepository.saveAndFlush(updatedBook));
+        verify(catalogGenerationService).increment();
     }
 
     @Test
@@ -262,6 +476,9 @@ public class BookServiceTests {
 
         //Then
         verify(bookRepository).deleteById(bookId);
+        verify(bookSearchIndex).remove(bookId);
+        verify(cacheInvalidationBus).publish(CacheInvalidation.evict(BOOKS, bookId));
+        verify(catalogGenerationService).increment();
         verifyNoMoreInteractions(bookRepository);
     }
 }
@@ -0,0 +1,59 @@
+package book.store.intro.service.book.exports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import book.store.intro.dto.book.BookDto;
+import book.store.intro.util.AbstractStatementCountTests;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@Sql(scripts = {
+        "classpath:database/categories/insert_three_categories.sql",
+        "classpath:database/books/insert_twelve_books.sql",
+        "classpath:database/books_categories/insert_book_category_relation_for_twelve_books.sql"
+}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:database/clear_database.sql",
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class BookExportServiceStatementCountTests extends AbstractStatementCountTests {
+    private static final int BOOKS = 12;
+    private static final long EXPORT_STATEMENTS = 3;
+
+    @Autowired
+    private BookExportService bookExportService;
+
+    @Test
+    @DisplayName("""
+            exportBooks():
+             Should stream ids through the export cursor and fetch books once per chunk
+            """)
+    void exportBooks_TwelveBooks_FetchesCategoriesPerChunk() {
+        //Given
+        List<BookDto> exported = new ArrayList<>();
+
+        //When
+        long actual = bookExportService.exportBooks(new BookExportWriter() {
+            @Override
+            public void write(BookDto book) {
+                exported.add(book);
+            }
+
+            @Override
+            public void flush() {
+            }
+        });
+
+        //Then
+        assertEquals(BOOKS, actual);
+        assertEquals(BOOKS, exported.size());
+        assertTrue(exported.stream().noneMatch(book -> book.getCategoryIds().isEmpty()));
+        assertEquals(EXPORT_STATEMENTS, statistics.getPrepareStatementCount(),
+                "Expected one book query per chunk of five");
+    }
+}
@@ -0,0 +1,101 @@
+package book.store.intro.service.book.imports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import book.store.intro.dto.book.imports.BookImportEvent;
+import book.store.intro.dto.book.imports.BookImportProgress;
+import book.store.intro.dto.book.imports.BookImportRowError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class BookImportServiceTests {
+    private static final int BATCH_SIZE = 2;
+    private static final String VALID_ROW = "{\"title\":\"Title\",\"author\":\"Author\","
+            + "\"isbn\":\"9780306406157\",\"price\":10,\"categories\":[1]}";
+    private static final String INVALID_ROW = "{\"title\":\"\",\"author\":\"Author\","
+            + "\"isbn\":\"not-an-isbn\",\"price\":10,\"categories\":[1]}";
+
+    @Mock
+    private BookImportBatchWriter batchWriter;
+
+    private BookImportServiceImpl bookImportService;
+
+    @BeforeEach
+    void setUp() {
+        bookImportService = new BookImportServiceImpl(batchWriter,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(),
+                BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("""
+            importBooks():
+             Should write valid rows in batches of the configured size and report progress
+             after each batch
+            """)
+    void importBooks_ValidRows_WritesInBatches() {
+        //Given
+        InputStream input = ndjson(VALID_ROW, VALID_ROW, VALID_ROW);
+        when(batchWriter.write(anyList())).thenAnswer(invocation -> new BookImportBatchResult(
+                invocation.<List<BookImportRow>>getArgument(0).size(), 0, List.of()));
+        List<BookImportEvent> events = new ArrayList<>();
+
+        //When
+        BookImportProgress actual = bookImportService.importBooks(
+                input, BookImportFormat.NDJSON, events::add);
+
+        //Then
+        verify(batchWriter, times(2)).write(anyList());
+        assertEquals(new BookImportProgress(3, 3, 0, 0, true), actual);
+        assertThat(events).containsExactly(
+                new BookImportProgress(2, 2, 0, 0, false),
+                new BookImportProgress(3, 3, 0, 0, false),
+                actual);
+    }
+
+    @Test
+    @DisplayName("""
+            importBooks():
+             Should report rows violating the request constraints without writing them
+            """)
+    void importBooks_InvalidRow_ReportsErrorWithoutWriting() {
+        //Given
+        InputStream input = ndjson(INVALID_ROW);
+        List<BookImportEvent> events = new ArrayList<>();
+
+        //When
+        BookImportProgress actual = bookImportService.importBooks(
+                input, BookImportFormat.NDJSON, events::add);
+
+        //Then
+        assertEquals(new BookImportProgress(1, 0, 0, 1, true), actual);
+        BookImportRowError error = (BookImportRowError) events.getFirst();
+        assertEquals(1, error.row());
+        assertThat(error.errors()).hasSize(2);
+        assertThat(error.errors().getFirst()).startsWith("isbn");
+        verify(batchWriter, never()).write(anyList());
+    }
+
+    private InputStream ndjson(String... rows) {
+        return new ByteArrayInputStream(
+                String.join("\n", rows).getBytes(StandardCharsets.UTF_8));
+    }
+}
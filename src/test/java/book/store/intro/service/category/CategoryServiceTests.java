@@ -1,5 +1,8 @@
 package book.store.intro.service.category;
 
+import static book.store.intro.config.CacheConfig.BOOKS;
+import static book.store.intro.config.CacheConfig.CATEGORIES;
+import static book.store.intro.config.CacheConfig.CATEGORY_PAGES;
 import static book.store.intro.util.TestBookDataUtil.PAGE_NUMBER;
 import static book.store.intro.util.TestBookDataUtil.PAGE_SIZE;
 import static book.store.intro.util.TestBookDataUtil.createBookWithCustomCategorySample;
@@ -11,9 +14,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import book.store.intro.cache.CacheInvalidation;
+import book.store.intro.cache.CacheInvalidationBus;
 import book.store.intro.dto.book.BookWithoutCategoriesDto;
 import book.store.intro.dto.category.CategoryDto;
 import book.store.intro.dto.category.CreateCategoryRequestDto;
@@ -24,6 +30,7 @@ import book.store.intro.model.Book;
 import book.store.intro.model.Category;
 import book.store.intro.repository.book.BookRepository;
 import book.store.intro.repository.category.CategoryRepository;
+import book.store.intro.service.catalog.CatalogGenerationService;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -32,6 +39,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -54,6 +64,15 @@ public class CategoryServiceTests {
     @Mock
     private BookMapper bookMapper;
 
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private CatalogGenerationService catalogGenerationService;
+
+    @Mock
+    private CacheManager cacheManager;
+
     @Test
     @DisplayName("""
             getAll():
@@ -65,11 +84,11 @@ public class CategoryServiceTests {
         Category category = createDefaultCategorySample();
         CategoryDto expectedCategoryDto = createCategoryDtoSampleFromEntity(category);
 
-        List<Category> categories = List.of(category);
-        Page<Category> categoryPage = new PageImpl<>(categories, pageable, categories.size());
+        List<CategoryDto> categoryDtos = List.of(expectedCategoryDto);
+        Page<CategoryDto> categoryPage = new PageImpl<>(categoryDtos, pageable,
+                categoryDtos.size());
 
-        when(categoryRepository.findAll(pageable)).thenReturn(categoryPage);
-        when(categoryMapper.toDto(category)).thenReturn(expectedCategoryDto);
+        when(categoryRepository.findPageBy(pageable)).thenReturn(categoryPage);
 
         //When
         Page<CategoryDto> actualCategoryDtoPage = categoryService.getAll(pageable);
@@ -77,9 +96,9 @@ public class CategoryServiceTests {
         //Then
         assertThat(actualCategoryDtoPage).hasSize(1);
         assertThat(actualCategoryDtoPage.getContent().getFirst()).isEqualTo(expectedCategoryDto);
-        verify(categoryRepository).findAll(pageable);
-        verify(categoryMapper).toDto(category);
-        verifyNoMoreInteractions(categoryRepository, categoryMapper);
+        verify(categoryRepository).findPageBy(pageable);
+        verifyNoInteractions(categoryMapper);
+        verifyNoMoreInteractions(categoryRepository);
     }
 
     @Test
@@ -106,6 +125,49 @@ public class CategoryServiceTests {
         verifyNoMoreInteractions(categoryRepository, categoryMapper);
     }
 
+    @Test
+    @DisplayName("""
+            getVersion():
+             Should return the version without loading the category
+            """)
+    void getVersion_WithValidCategoryId_ReturnsVersion() {
+        //Given
+        Long categoryId = 1L;
+        when(cacheManager.getCache(CATEGORIES)).thenReturn(new ConcurrentMapCache(CATEGORIES));
+        when(categoryRepository.findVersionById(categoryId)).thenReturn(Optional.of(2L));
+
+        //When
+        long actual = categoryService.getVersion(categoryId);
+
+        //Then
+        assertEquals(2L, actual);
+        verify(categoryRepository).findVersionById(categoryId);
+        verifyNoMoreInteractions(categoryRepository);
+        verifyNoInteractions(categoryMapper);
+    }
+
+    @Test
+    @DisplayName("""
+            getVersion():
+             Should return the version of the cached category without querying the database
+            """)
+    void getVersion_CachedCategory_SkipsRepository() {
+        //Given
+        Long categoryId = 1L;
+        CategoryDto cached = new CategoryDto();
+        cached.setVersion(2L);
+        Cache cache = new ConcurrentMapCache(CATEGORIES);
+        cache.put(categoryId, cached);
+        when(cacheManager.getCache(CATEGORIES)).thenReturn(cache);
+
+        //When
+        long actual = categoryService.getVersion(categoryId);
+
+        //Then
+        assertEquals(2L, actual);
+        verifyNoInteractions(categoryRepository, categoryMapper);
+    }
+
     @Test
     @DisplayName("""
             geById():
@@ -149,11 +211,11 @@ public class CategoryServiceTests {
         BookWithoutCategoriesDto expectedBookDto =
                 createBookWithoutCategoriesDtoSampleFromEntity(book);
 
-        List<Book> books = List.of(book);
-        Page<Book> bookPage = new PageImpl<>(books, pageable, books.size());
+        List<BookWithoutCategoriesDto> bookDtos = List.of(expectedBookDto);
+        Page<BookWithoutCategoriesDto> bookPage = new PageImpl<>(bookDtos, pageable,
+                bookDtos.size());
 
         when(bookRepository.findAllByCategoryId(pageable, categoryId)).thenReturn(bookPage);
-        when(bookMapper.toBookWithoutCategoriesDto(book)).thenReturn(expectedBookDto);
 
         //When
         Page<BookWithoutCategoriesDto> actualBookDtoPage = categoryService.getBooksByCategoryId(
@@ -163,8 +225,8 @@ public class CategoryServiceTests {
         assertThat(actualBookDtoPage).hasSize(1);
         assertThat(actualBookDtoPage.getContent().getFirst()).isEqualTo(expectedBookDto);
         verify(bookRepository).findAllByCategoryId(pageable, categoryId);
-        verify(bookMapper).toBookWithoutCategoriesDto(book);
-        verifyNoMoreInteractions(bookRepository, bookMapper);
+        verifyNoInteractions(bookMapper);
+        verifyNoMoreInteractions(bookRepository);
     }
 
     @Test
@@ -216,6 +278,7 @@ public class CategoryServiceTests {
         //Then
         assertThat(actualCategoryDto).isEqualTo(expectedCategoryDto);
         verify(categoryRepository).save(category);
+        verify(catalogGenerationService).increment();
         verifyNoMoreInteractions(categoryRepository, categoryMapper);
     }
 
@@ -240,7 +303,7 @@ public class CategoryServiceTests {
         CategoryDto expectedCategoryDto = createCategoryDtoSampleFromEntity(updatedCategory);
 
         when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(existingCategory));
-        when(categoryMapper.toDto(categoryRepository.save(updatedCategory)))
+        when(categoryMapper.toDto(categoryRepository.saveAndFlush(updatedCategory)))
                 .thenReturn(expectedCategoryDto);
 
         // When
@@ -249,8 +312,9 @@ public class CategoryServiceTests {
         // Then
         assertThat(actualCategoryDto).isEqualTo(expectedCategoryDto);
         verify(categoryRepository).findById(categoryId);
-        verify(categoryRepository).save(updatedCategory);
-        verify(categoryMapper).toDto(categoryRepository.save(updatedCategory));
+        verify(categoryRepository).saveAndFlush(updatedCategory);
+        verify(categoryMapper).toDto(categoryRepository.saveAndFlush(updatedCategory));
+        verify(catalogGenerationService).increment();
     }
 
     @Test
@@ -296,6 +360,10 @@ public class CategoryServiceTests {
 
         //Then
         verify(categoryRepository).deleteById(bookId);
+        verify(bookRepository).incrementVersionByCategoryId(bookId);
+        verify(catalogGenerationService).increment();
+        verify(cacheInvalidationBus).publish(CacheInvalidation.evict(CATEGORIES, bookId),
+                CacheInvalidation.clear(CATEGORY_PAGES), CacheInvalidation.clear(BOOKS));
         verifyNoMoreInteractions(categoryRepository);
     }
 }
@@ -0,0 +1,60 @@
+package book.store.intro.service.order;
+
+import static book.store.intro.util.TestOrderDataUtil.ORDER_SHIPPING_ADDRESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import book.store.intro.dto.order.CreateOrderRequestDto;
+import book.store.intro.dto.order.OrderDto;
+import book.store.intro.model.User;
+import book.store.intro.repository.shopping.cart.item.CartItemRepository;
+import book.store.intro.util.AbstractStatementCountTests;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@Sql(scripts = {
+        "classpath:database/users/insert_one_user.sql",
+        "classpath:database/shopping_carts/insert_one_shopping_cart.sql",
+        "classpath:database/books/insert_three_books.sql",
+        "classpath:database/cart_items/insert_three_cart_items.sql"
+}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:database/clear_database.sql",
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class OrderServiceStatementCountTests extends AbstractStatementCountTests {
+    private static final long USER_ID = 3L;
+    private static final int CART_ITEMS = 3;
+    private static final long PLACE_ORDER_STATEMENTS = 4;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Test
+    @DisplayName("""
+            placeOrder():
+             Should insert the order items of a multi-item cart in a single batch
+            """)
+    void placeOrder_MultiItemCart_BatchesOrderItemInserts() {
+        //Given
+        User user = new User();
+        user.setId(USER_ID);
+
+        //When
+        OrderDto actual = orderService.placeOrder(
+                new CreateOrderRequestDto(ORDER_SHIPPING_ADDRESS), user);
+
+        //Then
+        assertEquals(CART_ITEMS, actual.getOrderItems().size());
+        assertEquals(0, new BigDecimal("239.94").compareTo(actual.getTotal()));
+        assertEquals(CART_ITEMS + 1, statistics.getEntityInsertCount());
+        assertEquals(PLACE_ORDER_STATEMENTS, statistics.getPrepareStatementCount(),
+                "Expected cart read, order insert, batched order item insert and cart clear only");
+        assertEquals(0, cartItemRepository.count());
+    }
+}
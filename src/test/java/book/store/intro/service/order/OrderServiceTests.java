@@ -3,17 +3,19 @@ package book.store.intro.service.order;
 import static book.store.intro.util.TestBookDataUtil.PAGE_NUMBER;
 import static book.store.intro.util.TestBookDataUtil.PAGE_SIZE;
 import static book.store.intro.util.TestBookDataUtil.createDefaultBookSample;
+import static book.store.intro.util.TestOrderDataUtil.ORDER_ITEM_DEFAULT_PRICE;
 import static book.store.intro.util.TestOrderDataUtil.createEmptyOrderDtoSampleFromEntity;
 import static book.store.intro.util.TestOrderDataUtil.createEmptyOrderSample;
 import static book.store.intro.util.TestOrderDataUtil.createOrderItemDtoSampleFromEntity;
 import static book.store.intro.util.TestOrderDataUtil.createOrderItemSample;
-import static book.store.intro.util.TestShoppingCartDataUtil.createCartItemSample;
-import static book.store.intro.util.TestShoppingCartDataUtil.createEmptyShoppingCartSample;
+import static book.store.intro.util.TestShoppingCartDataUtil.DEFAULT_ITEM_QUANTITY;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -26,13 +28,13 @@ import book.store.intro.exceptions.OrderProcessingException;
 import book.store.intro.mapper.OrderItemMapper;
 import book.store.intro.mapper.OrderMapper;
 import book.store.intro.model.Book;
-import book.store.intro.model.CartItem;
 import book.store.intro.model.Order;
 import book.store.intro.model.OrderItem;
-import book.store.intro.model.ShoppingCart;
 import book.store.intro.model.User;
+import book.store.intro.repository.book.BookRepository;
 import book.store.intro.repository.order.OrderRepository;
-import book.store.intro.service.shopping.cart.ShoppingCartServiceImpl;
+import book.store.intro.repository.shopping.cart.item.CartItemRepository;
+import book.store.intro.repository.shopping.cart.item.CheckoutItem;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -53,7 +55,10 @@ public class OrderServiceTests {
     private OrderServiceImpl orderService;
 
     @Mock
-    private ShoppingCartServiceImpl shoppingCartService;
+    private CartItemRepository cartItemRepository;
+
+    @Mock
+    private BookRepository bookRepository;
 
     @Mock
     private OrderItemMapper orderItemMapper;
@@ -76,11 +81,7 @@ public class OrderServiceTests {
         User user = new User();
         user.setId(1L);
 
-        ShoppingCart shoppingCart = createEmptyShoppingCartSample();
-        shoppingCart.setUser(user);
-
         Book book = createDefaultBookSample();
-        CartItem cartItem = createCartItemSample(shoppingCart, book);
         CreateOrderRequestDto requestDto = new CreateOrderRequestDto(orderShippingAddress);
         Order order = createEmptyOrderSample();
         order.setUser(user);
@@ -89,10 +90,12 @@ public class OrderServiceTests {
         OrderItemDto orderItemDto = createOrderItemDtoSampleFromEntity(orderItem);
         OrderDto expectedOrderDto = createEmptyOrderDtoSampleFromEntity(order);
         expectedOrderDto.setOrderItems(new ArrayList<>(List.of(orderItemDto)));
+        CheckoutItem checkoutItem = new CheckoutItem(
+                book.getId(), DEFAULT_ITEM_QUANTITY, ORDER_ITEM_DEFAULT_PRICE);
 
-        when(shoppingCartService.findShoppingCartByUserId(user.getId())).thenReturn(shoppingCart);
-        when(orderItemMapper.cartItemToOrderItem(
-                any(CartItem.class), any(Order.class))).thenReturn(orderItem);
+        when(cartItemRepository.findCheckoutItemsByShoppingCartId(user.getId()))
+                .thenReturn(List.of(checkoutItem));
+        when(bookRepository.getReferenceById(book.getId())).thenReturn(book);
         when(orderRepository.save(any(Order.class))).thenReturn(order);
         when(orderMapper.toDto(order)).thenReturn(expectedOrderDto);
 
@@ -100,46 +103,17 @@ public class OrderServiceTests {
         OrderDto actualOrderDto = orderService.placeOrder(requestDto, user);
 
         //Then
-        assertEquals(actualOrderDto, expectedOrderDto);
-        verify(shoppingCartService).findShoppingCartByUserId(user.getId());
-        verify(orderItemMapper).cartItemToOrderItem(any(CartItem.class), any(Order.class));
-        verify(orderRepository).save(any(Order.class));
+        assertEquals(expectedOrderDto, actualOrderDto);
+        verify(cartItemRepository).findCheckoutItemsByShoppingCartId(user.getId());
+        verify(bookRepository).getReferenceById(book.getId());
+        verify(orderRepository).save(argThat(savedOrder ->
+                savedOrder.getTotal().compareTo(checkoutItem.subtotal()) == 0
+                        && savedOrder.getOrderItems().size() == 1));
+        verify(cartItemRepository).deleteAllByShoppingCartId(user.getId());
         verify(orderMapper).toDto(order);
-        verifyNoMoreInteractions(shoppingCartService, orderItemMapper,
-                orderRepository, orderMapper);
-    }
-
-    @Test
-    @DisplayName("""
-            placeOrder():
-             Should throw an OrderProcessingException when the cart items are null
-            """)
-    void placeOrder_CartItemsIsNull_ShouldThrowException() {
-        //Given
-        User user = new User();
-        user.setId(1L);
-
-        ShoppingCart shoppingCart = createEmptyShoppingCartSample();
-        shoppingCart.setUser(user);
-        shoppingCart.setCartItems(null);
-
-        String orderShippingAddress = "Address from request";
-        CreateOrderRequestDto requestDto = new CreateOrderRequestDto(orderShippingAddress);
-
-        when(shoppingCartService.findShoppingCartByUserId(user.getId())).thenReturn(shoppingCart);
-
-        //When
-        Exception exception = assertThrows(
-                OrderProcessingException.class, () -> orderService.placeOrder(requestDto, user)
-        );
-
-        //Then
-        String expected = "Shopping cart is empty";
-        String actual = exception.getMessage();
-
-        assertEquals(expected, actual);
-        verify(shoppingCartService).findShoppingCartByUserId(user.getId());
-        verifyNoMoreInteractions(shoppingCartService);
+        verifyNoMoreInteractions(cartItemRepository, bookRepository, orderRepository,
+                orderMapper);
+        verifyNoInteractions(orderItemMapper);
     }
 
     @Test
@@ -152,13 +126,11 @@ public class OrderServiceTests {
         User user = new User();
         user.setId(1L);
 
-        ShoppingCart shoppingCart = createEmptyShoppingCartSample();
-        shoppingCart.setUser(user);
-
         String orderShippingAddress = "Address from request";
         CreateOrderRequestDto requestDto = new CreateOrderRequestDto(orderShippingAddress);
 
-        when(shoppingCartService.findShoppingCartByUserId(user.getId())).thenReturn(shoppingCart);
+        when(cartItemRepository.findCheckoutItemsByShoppingCartId(user.getId()))
+                .thenReturn(List.of());
 
         //When
         Exception exception = assertThrows(
@@ -170,8 +142,9 @@ public class OrderServiceTests {
         String actual = exception.getMessage();
 
         assertEquals(expected, actual);
-        verify(shoppingCartService).findShoppingCartByUserId(user.getId());
-        verifyNoMoreInteractions(shoppingCartService);
+        verify(cartItemRepository).findCheckoutItemsByShoppingCartId(user.getId());
+        verifyNoMoreInteractions(cartItemRepository);
+        verifyNoInteractions(orderRepository, bookRepository);
     }
 
     @Test
@@ -0,0 +1,147 @@
+package book.store.intro.service.shopping.cart;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import book.store.intro.dto.shopping.cart.AddItemToCartRequestDto;
+import book.store.intro.dto.shopping.cart.CartItemOperationDto;
+import book.store.intro.dto.shopping.cart.ShoppingCartDto;
+import book.store.intro.dto.shopping.cart.UpdateCartRequestDto;
+import book.store.intro.dto.shopping.cart.item.CartItemDto;
+import book.store.intro.repository.shopping.cart.item.CartItemRepository;
+import book.store.intro.util.AbstractStatementCountTests;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@Sql(scripts = {
+        "classpath:database/users/insert_one_user.sql",
+        "classpath:database/shopping_carts/insert_one_shopping_cart.sql",
+        "classpath:database/books/insert_three_books.sql",
+        "classpath:database/cart_items/insert_three_cart_items.sql"
+}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:database/clear_database.sql",
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ShoppingCartServiceStatementCountTests extends AbstractStatementCountTests {
+    private static final long USER_ID = 3L;
+    private static final long GET_CART_INFO_STATEMENTS = 1;
+    private static final long INCREMENT_ITEM_STATEMENTS = 4;
+    private static final long UPDATE_CART_STATEMENTS = 5;
+    private static final int CONCURRENT_ADDS = 8;
+
+    @Autowired
+    private ShoppingCartService shoppingCartService;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Test
+    @DisplayName("""
+            getCartInfo():
+             Should render a multi-item cart with a single query
+            """)
+    void getCartInfo_MultiItemCart_LoadsCartItemsAndBooksInOneQuery() {
+        //When
+        ShoppingCartDto actual = shoppingCartService.getCartInfo(USER_ID);
+
+        //Then
+        List<CartItemDto> cartItems = actual.getCartItems().stream()
+                .sorted(Comparator.comparing(CartItemDto::getId))
+                .toList();
+        assertEquals(USER_ID, actual.getUserId());
+        assertEquals(List.of(1L, 2L, 3L), cartItems.stream().map(CartItemDto::getBookId).toList());
+        assertEquals(List.of("BookOne", "BookTwo", "BookThree"),
+                cartItems.stream().map(CartItemDto::getBookTitle).toList());
+        assertEquals(List.of(1, 2, 3), cartItems.stream().map(CartItemDto::getQuantity).toList());
+        assertEquals(GET_CART_INFO_STATEMENTS, statistics.getPrepareStatementCount(),
+                "Expected the cart, its items and their books to be fetched together");
+        assertEquals(0, statistics.getFlushCount(),
+                "Expected no dirty checking flush for a read-only transaction");
+    }
+
+    @Test
+    @DisplayName("""
+            addItemToCart():
+             Should increment an existing item without loading the cart collection first
+            """)
+    void addItemToCart_ExistingItem_IncrementsWithoutLoadingCart() {
+        //When
+        ShoppingCartDto actual = shoppingCartService.addItemToCart(
+                new AddItemToCartRequestDto(2L, 5), USER_ID);
+
+        //Then
+        CartItemDto updated = actual.getCartItems().stream()
+                .filter(item -> item.getBookId().equals(2L))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(7, updated.getQuantity());
+        assertEquals(3, actual.getCartItems().size());
+        assertEquals(INCREMENT_ITEM_STATEMENTS, statistics.getPrepareStatementCount(),
+                "Expected book check, cart lock, quantity increment and cart rendering only");
+    }
+
+    @Test
+    @DisplayName("""
+            updateCart():
+             Should apply a batch of cart operations with a fixed number of statements
+            """)
+    void updateCart_MixedOperations_UsesSetBasedStatements() {
+        //Given
+        UpdateCartRequestDto requestDto = new UpdateCartRequestDto(List.of(
+                new CartItemOperationDto("ADD", 1L, 4),
+                new CartItemOperationDto("UPDATE", 2L, 7),
+                new CartItemOperationDto("REMOVE", 3L, null)
+        ));
+
+        //When
+        ShoppingCartDto actual = shoppingCartService.updateCart(requestDto, USER_ID);
+
+        //Then
+        List<CartItemDto> cartItems = actual.getCartItems().stream()
+                .sorted(Comparator.comparing(CartItemDto::getBookId))
+                .toList();
+        assertEquals(List.of(5, 7), cartItems.stream().map(CartItemDto::getQuantity).toList());
+        assertEquals(UPDATE_CART_STATEMENTS, statistics.getPrepareStatementCount(),
+                "Expected cart lock, bulk delete, item lock, batched update and rendering only");
+    }
+
+    @Test
+    @DisplayName("""
+            addItemToCart():
+             Should not lose quantity updates when the same book is added concurrently
+            """)
+    void addItemToCart_ConcurrentAdds_KeepsEveryIncrement() throws Exception {
+        //Given
+        cartItemRepository.deleteAllInBatch();
+        AddItemToCartRequestDto requestDto = new AddItemToCartRequestDto(1L, 1);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_ADDS);
+
+        //When
+        try {
+            List<Future<ShoppingCartDto>> results = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_ADDS; i++) {
+                results.add(executor.submit(
+                        () -> shoppingCartService.addItemToCart(requestDto, USER_ID)));
+            }
+            for (Future<ShoppingCartDto> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        //Then
+        List<CartItemDto> actual = shoppingCartService.getCartInfo(USER_ID).getCartItems();
+        assertEquals(1, actual.size());
+        assertEquals(CONCURRENT_ADDS, actual.getFirst().getQuantity());
+    }
+}
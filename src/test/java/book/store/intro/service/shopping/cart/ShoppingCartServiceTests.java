@@ -1,6 +1,7 @@
 package book.store.intro.service.shopping.cart;
 
 import static book.store.intro.util.TestBookDataUtil.createDefaultBookSample;
+import static book.store.intro.util.TestShoppingCartDataUtil.DEFAULT_ITEM_QUANTITY;
 import static book.store.intro.util.TestShoppingCartDataUtil.createAddItemToCartRequestDtoSample;
 import static book.store.intro.util.TestShoppingCartDataUtil.createCartItemDtoSample;
 import static book.store.intro.util.TestShoppingCartDataUtil.createCartItemSample;
@@ -10,12 +11,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import book.store.intro.dto.shopping.cart.AddItemToCartRequestDto;
+import book.store.intro.dto.shopping.cart.CartItemOperationDto;
 import book.store.intro.dto.shopping.cart.ShoppingCartDto;
+import book.store.intro.dto.shopping.cart.UpdateCartRequestDto;
 import book.store.intro.dto.shopping.cart.UpdateItemInCartRequestDto;
 import book.store.intro.dto.shopping.cart.item.CartItemDto;
 import book.store.intro.exceptions.EntityNotFoundException;
@@ -30,6 +37,7 @@ import book.store.intro.repository.shopping.cart.item.CartItemRepository;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -67,7 +75,8 @@ public class ShoppingCartServiceTests {
         ShoppingCartDto expectedShoppingCartDto = createShoppingCartDtoSampleFromEntity(
                 shoppingCart);
 
-        when(shoppingCartRepository.findById(userId)).thenReturn(Optional.of(shoppingCart));
+        when(shoppingCartRepository.findWithCartItemsById(userId))
+                .thenReturn(Optional.of(shoppingCart));
         when(shoppingCartMapper.toDto(shoppingCart)).thenReturn(expectedShoppingCartDto);
 
         //When
@@ -75,7 +84,7 @@ public class ShoppingCartServiceTests {
 
         //Then
         assertThat(actualShoppingCartDto).isEqualTo(expectedShoppingCartDto);
-        verify(shoppingCartRepository).findById(userId);
+        verify(shoppingCartRepository).findWithCartItemsById(userId);
         verify(shoppingCartMapper).toDto(shoppingCart);
         verifyNoMoreInteractions(shoppingCartRepository, shoppingCartMapper);
     }
@@ -89,7 +98,7 @@ public class ShoppingCartServiceTests {
         //Given
         Long userId = 1L;
 
-        when(shoppingCartRepository.findById(userId)).thenReturn(Optional.empty());
+        when(shoppingCartRepository.findWithCartItemsById(userId)).thenReturn(Optional.empty());
 
         //When
         Exception exception = assertThrows(
@@ -101,32 +110,33 @@ public class ShoppingCartServiceTests {
         String actual = exception.getMessage();
 
         assertEquals(expected, actual);
-        verify(shoppingCartRepository).findById(userId);
+        verify(shoppingCartRepository).findWithCartItemsById(userId);
         verifyNoMoreInteractions(shoppingCartRepository);
     }
 
     @Test
     @DisplayName("""
             addItemToCart():
-             Should update the quantity of an existing item in the cart
+             Should atomically increment the quantity of an existing item in the cart
             """)
-    void addItemToCart_ExistingItem_UpdatesQuantity() {
+    void addItemToCart_ExistingItem_IncrementsQuantity() {
         //Given
         Long userId = 1L;
 
         AddItemToCartRequestDto requestDto = createAddItemToCartRequestDtoSample();
-        Book book = createDefaultBookSample();
         ShoppingCart shoppingCart = createEmptyShoppingCartSample();
-        CartItem cartItem = createCartItemSample(shoppingCart, book);
-        CartItemDto cartItemDto = createCartItemDtoSample(cartItem);
-
+        CartItem cartItem = createCartItemSample(shoppingCart, createDefaultBookSample());
         ShoppingCartDto expectedShoppingCartDto = createShoppingCartDtoSampleFromEntity(
                 shoppingCart);
-        expectedShoppingCartDto.setCartItems(List.of(cartItemDto));
-
-        when(shoppingCartRepository.findById(userId)).thenReturn(Optional.of(shoppingCart));
-        when(bookRepository.findById(requestDto.bookId())).thenReturn(Optional.of(book));
-        when(cartItemRepository.save(cartItem)).thenReturn(cartItem);
+        expectedShoppingCartDto.setCartItems(List.of(createCartItemDtoSample(cartItem)));
+
+        when(bookRepository.existsById(requestDto.bookId())).thenReturn(true);
+        when(shoppingCartRepository.findForUpdateById(userId))
+                .thenReturn(Optional.of(shoppingCart));
+        when(cartItemRepository.incrementQuantity(
+                userId, requestDto.bookId(), requestDto.quantity())).thenReturn(1);
+        when(shoppingCartRepository.findWithCartItemsById(userId))
+                .thenReturn(Optional.of(shoppingCart));
         when(shoppingCartMapper.toDto(shoppingCart)).thenReturn(expectedShoppingCartDto);
 
         //When
@@ -135,9 +145,11 @@ public class ShoppingCartServiceTests {
 
         //Then
         assertThat(actualShoppingCartDto).isEqualTo(expectedShoppingCartDto);
-        verify(shoppingCartRepository).findById(userId);
-        verify(bookRepository).findById(requestDto.bookId());
-        verify(cartItemRepository).save(cartItem);
+        verify(bookRepository).existsById(requestDto.bookId());
+        verify(shoppingCartRepository).findForUpdateById(userId);
+        verify(cartItemRepository).incrementQuantity(
+                userId, requestDto.bookId(), requestDto.quantity());
+        verify(shoppingCartRepository).findWithCartItemsById(userId);
         verify(shoppingCartMapper).toDto(shoppingCart);
         verifyNoMoreInteractions(shoppingCartRepository, bookRepository,
                 cartItemRepository, shoppingCartMapper);
@@ -168,9 +180,15 @@ public class ShoppingCartServiceTests {
 
         Long userId = 1L;
 
-        when(shoppingCartRepository.findById(userId)).thenReturn(Optional.of(shoppingCart));
-        when(bookRepository.findById(requestDto.bookId())).thenReturn(Optional.of(book));
+        when(bookRepository.existsById(requestDto.bookId())).thenReturn(true);
+        when(shoppingCartRepository.findForUpdateById(userId))
+                .thenReturn(Optional.of(shoppingCart));
+        when(cartItemRepository.incrementQuantity(
+                userId, requestDto.bookId(), requestDto.quantity())).thenReturn(0);
+        when(bookRepository.getReferenceById(requestDto.bookId())).thenReturn(book);
         when(cartItemRepository.save(any(CartItem.class))).thenReturn(newCartItem);
+        when(shoppingCartRepository.findWithCartItemsById(userId))
+                .thenReturn(Optional.of(shoppingCart));
         when(shoppingCartMapper.toDto(shoppingCart)).thenReturn(expectedShoppingCartDto);
 
         //When
@@ -179,9 +197,13 @@ public class ShoppingCartServiceTests {
 
         //Then
         assertThat(actualShoppingCartDto).isEqualTo(expectedShoppingCartDto);
-        verify(shoppingCartRepository).findById(userId);
-        verify(bookRepository).findById(requestDto.bookId());
+        verify(bookRepository).existsById(requestDto.bookId());
+        verify(shoppingCartRepository).findForUpdateById(userId);
+        verify(cartItemRepository).incrementQuantity(
+                userId, requestDto.bookId(), requestDto.quantity());
+        verify(bookRepository).getReferenceById(requestDto.bookId());
         verify(cartItemRepository).save(any(CartItem.class));
+        verify(shoppingCartRepository).findWithCartItemsById(userId);
         verify(shoppingCartMapper).toDto(shoppingCart);
         verifyNoMoreInteractions(shoppingCartRepository, bookRepository,
                 cartItemRepository, shoppingCartMapper);
@@ -197,10 +219,8 @@ public class ShoppingCartServiceTests {
         Long userId = 1L;
 
         AddItemToCartRequestDto requestDto = createAddItemToCartRequestDtoSample();
-        ShoppingCart shoppingCart = createEmptyShoppingCartSample();
 
-        when(shoppingCartRepository.findById(userId)).thenReturn(Optional.of(shoppingCart));
-        when(bookRepository.findById(requestDto.bookId())).thenReturn(Optional.empty());
+        when(bookRepository.existsById(requestDto.bookId())).thenReturn(false);
 
         //When
         Exception exception = assertThrows(
@@ -213,9 +233,9 @@ public class ShoppingCartServiceTests {
         String actual = exception.getMessage();
 
         assertEquals(expected, actual);
-        verify(shoppingCartRepository).findById(userId);
-        verify(bookRepository).findById(requestDto.bookId());
-        verifyNoMoreInteractions(shoppingCartRepository, bookRepository);
+        verify(bookRepository).existsById(requestDto.bookId());
+        verifyNoMoreInteractions(bookRepository);
+        verifyNoInteractions(shoppingCartRepository, cartItemRepository);
     }
 
     @Test
@@ -240,8 +260,9 @@ public class ShoppingCartServiceTests {
 
         Long itemId = 1L;
 
-        when(shoppingCartRepository.findById(userId)).thenReturn(Optional.of(shoppingCart));
-        when(cartItemRepository.save(cartItem)).thenReturn(cartItem);
+        when(cartItemRepository.updateQuantity(itemId, userId, newQuantity)).thenReturn(1);
+        when(shoppingCartRepository.findWithCartItemsById(userId))
+                .thenReturn(Optional.of(shoppingCart));
         when(shoppingCartMapper.toDto(shoppingCart)).thenReturn(expectedShoppingCartDto);
 
         //When
@@ -250,8 +271,8 @@ public class ShoppingCartServiceTests {
 
         //Then
         assertThat(actualShoppingCartDto).isEqualTo(expectedShoppingCartDto);
-        verify(shoppingCartRepository).findById(userId);
-        verify(cartItemRepository).save(cartItem);
+        verify(cartItemRepository).updateQuantity(itemId, userId, newQuantity);
+        verify(shoppingCartRepository).findWithCartItemsById(userId);
         verify(shoppingCartMapper).toDto(shoppingCart);
         verifyNoMoreInteractions(shoppingCartRepository, cartItemRepository, shoppingCartMapper);
     }
@@ -268,9 +289,9 @@ public class ShoppingCartServiceTests {
         Long invalidItemId = 99L;
 
         UpdateItemInCartRequestDto requestDto = new UpdateItemInCartRequestDto(newQuantity);
-        ShoppingCart shoppingCart = createEmptyShoppingCartSample();
 
-        when(shoppingCartRepository.findById(userId)).thenReturn(Optional.of(shoppingCart));
+        when(cartItemRepository.updateQuantity(invalidItemId, userId, newQuantity))
+                .thenReturn(0);
 
         //When
         Exception exception = assertThrows(
@@ -283,8 +304,91 @@ public class ShoppingCartServiceTests {
         String actual = exception.getMessage();
 
         assertEquals(expected, actual);
-        verify(shoppingCartRepository).findById(userId);
-        verifyNoMoreInteractions(shoppingCartRepository);
+        verify(cartItemRepository).updateQuantity(invalidItemId, userId, newQuantity);
+        verifyNoMoreInteractions(cartItemRepository);
+        verifyNoInteractions(shoppingCartRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            updateCart():
+             Should delete removed books, update existing items and insert new ones
+            """)
+    void updateCart_MixedOperations_AppliesChangesAndReturnsShoppingCartDto() {
+        //Given
+        Long userId = 1L;
+        Long newBookId = 2L;
+        Long removedBookId = 3L;
+
+        ShoppingCart shoppingCart = createEmptyShoppingCartSample();
+        Book book = createDefaultBookSample();
+        CartItem cartItem = createCartItemSample(shoppingCart, book);
+        Book newBook = new Book();
+        newBook.setId(newBookId);
+        UpdateCartRequestDto requestDto = new UpdateCartRequestDto(List.of(
+                new CartItemOperationDto("ADD", book.getId(), 2),
+                new CartItemOperationDto("UPDATE", newBookId, 4),
+                new CartItemOperationDto("REMOVE", removedBookId, null)
+        ));
+        ShoppingCartDto expectedShoppingCartDto = createShoppingCartDtoSampleFromEntity(
+                shoppingCart);
+
+        when(shoppingCartRepository.findForUpdateById(userId))
+                .thenReturn(Optional.of(shoppingCart));
+        when(cartItemRepository.findAllForUpdateByShoppingCartIdAndBookIdIn(
+                userId, Set.of(book.getId(), newBookId))).thenReturn(List.of(cartItem));
+        when(bookRepository.findIdsByIdIn(Set.of(newBookId))).thenReturn(List.of(newBookId));
+        when(bookRepository.getReferenceById(newBookId)).thenReturn(newBook);
+        when(shoppingCartRepository.findWithCartItemsById(userId))
+                .thenReturn(Optional.of(shoppingCart));
+        when(shoppingCartMapper.toDto(shoppingCart)).thenReturn(expectedShoppingCartDto);
+
+        //When
+        ShoppingCartDto actualShoppingCartDto = shoppingCartService.updateCart(
+                requestDto, userId);
+
+        //Then
+        assertThat(actualShoppingCartDto).isEqualTo(expectedShoppingCartDto);
+        assertEquals(DEFAULT_ITEM_QUANTITY + 2, cartItem.getQuantity());
+        verify(cartItemRepository).deleteAllByShoppingCartIdAndBookIdIn(
+                userId, List.of(removedBookId));
+        verify(cartItemRepository).saveAll(argThat((List<CartItem> items) -> items.size() == 1
+                && items.getFirst().getBook() == newBook
+                && items.getFirst().getQuantity() == 4));
+    }
+
+    @Test
+    @DisplayName("""
+            updateCart():
+             Should throw an exception when a new item references an unknown book
+            """)
+    void updateCart_UnknownBook_ShouldThrowException() {
+        //Given
+        Long userId = 1L;
+        Long invalidBookId = 99L;
+
+        ShoppingCart shoppingCart = createEmptyShoppingCartSample();
+        UpdateCartRequestDto requestDto = new UpdateCartRequestDto(List.of(
+                new CartItemOperationDto("ADD", invalidBookId, 1)
+        ));
+
+        when(shoppingCartRepository.findForUpdateById(userId))
+                .thenReturn(Optional.of(shoppingCart));
+        when(cartItemRepository.findAllForUpdateByShoppingCartIdAndBookIdIn(
+                userId, Set.of(invalidBookId))).thenReturn(List.of());
+        when(bookRepository.findIdsByIdIn(Set.of(invalidBookId))).thenReturn(List.of());
+
+        //When
+        Exception exception = assertThrows(
+                EntityNotFoundException.class, () -> shoppingCartService.updateCart(
+                        requestDto, userId)
+        );
+
+        //Then
+        String expected = "Can't find books by ids: [" + invalidBookId + "]";
+        assertEquals(expected, exception.getMessage());
+        verify(cartItemRepository, never()).saveAll(anyList());
+        verifyNoInteractions(shoppingCartMapper);
     }
 
     @Test
@@ -12,6 +12,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import book.store.intro.dto.user.UpdateUserRolesRequestDto;
 import book.store.intro.dto.user.UserRegistrationRequestDto;
 import book.store.intro.dto.user.UserResponseDto;
 import book.store.intro.exceptions.EntityNotFoundException;
@@ -22,8 +23,11 @@ import book.store.intro.model.Role.RoleName;
 import book.store.intro.model.User;
 import book.store.intro.repository.role.RoleRepository;
 import book.store.intro.repository.user.UserRepository;
+import book.store.intro.security.UserPrincipalCacheInvalidator;
 import book.store.intro.service.shopping.cart.ShoppingCartServiceImpl;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -53,6 +57,9 @@ public class UserServiceTests {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserPrincipalCacheInvalidator userPrincipalCacheInvalidator;
+
     private UserRegistrationRequestDto requestDto;
 
     @BeforeEach
@@ -148,4 +155,37 @@ public class UserServiceTests {
         verify(passwordEncoder).encode(requestDto.getPassword());
         verifyNoMoreInteractions(userRepository, userMapper);
     }
+
+    @Test
+    @DisplayName("""
+            updateRoles():
+             Should replace the user roles and invalidate the cached principal
+            """)
+    void updateRoles_ExistingUser_ReplacesRolesAndInvalidatesPrincipal() {
+        //Given
+        Long userId = 1L;
+        User user = createUserSampleFromRequest(requestDto);
+        user.setId(userId);
+
+        Role userRole = new Role();
+        userRole.setRole(RoleName.USER);
+
+        UpdateUserRolesRequestDto updateRequestDto =
+                new UpdateUserRolesRequestDto(Set.of(RoleName.USER));
+        UserResponseDto expectedResponseDto = createUserResponseDtoSampleFromEntity(user);
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(roleRepository.findAllByRoleIn(updateRequestDto.roles()))
+                .thenReturn(List.of(userRole));
+        when(userMapper.toDto(user)).thenReturn(expectedResponseDto);
+
+        //When
+        UserResponseDto actualResponseDto = userService.updateRoles(userId, updateRequestDto);
+
+        //Then
+        assertThat(actualResponseDto).isEqualTo(expectedResponseDto);
+        assertEquals(Set.of(userRole), user.getRoles());
+        verify(userPrincipalCacheInvalidator).invalidate(userId);
+        verifyNoMoreInteractions(userRepository, userPrincipalCacheInvalidator);
+    }
 }
@@ -74,6 +74,11 @@ public class TestBookDataUtil {
         return bookDto;
     }
 
+    public static BookDto createBookDtoProjectionSampleFromEntity(Book book) {
+        return new BookDto(book.getId(), book.getTitle(), book.getAuthor(), book.getIsbn(),
+                book.getPrice(), book.getDescription(), book.getCoverImage());
+    }
+
     public static BookDto createDefaultBookDtoSample() {
         BookDto bookDto = new BookDto();
         bookDto.setTitle(BOOK_TITLE);
@@ -0,0 +1,5 @@
+INSERT INTO books (id, title, author, isbn, price, description, is_deleted)
+VALUES (1, 'Clean Code', 'Robert Martin', '978-0-13-235088-4', 30.00, 'Examples are written in Java', false),
+       (2, 'Effective Java', 'Joshua Bloch', '978-0-13-468599-1', 45.00, 'Best practices', false),
+       (3, 'Java Concurrency in Practice', 'Brian Goetz', '978-0-32-134960-6', 50.00, NULL, false),
+       (4, 'Refactoring', 'Martin Fowler', '978-0-13-475759-9', 40.00, NULL, false);
@@ -0,0 +1,13 @@
+INSERT INTO books (id, title, author, isbn, price, is_deleted)
+VALUES (1, 'BookOne', 'AuthorOne', '978-3-16-148410-0', 39.99, false),
+       (2, 'BookTwo', 'AuthorTwo', '978-3-16-148410-1', 39.99, false),
+       (3, 'BookThree', 'AuthorThree', '978-3-16-148410-2', 39.99, false),
+       (4, 'BookFour', 'AuthorFour', '978-3-16-148410-3', 39.99, false),
+       (5, 'BookFive', 'AuthorFive', '978-3-16-148410-4', 39.99, false),
+       (6, 'BookSix', 'AuthorSix', '978-3-16-148410-5', 39.99, false),
+       (7, 'BookSeven', 'AuthorSeven', '978-3-16-148410-6', 39.99, false),
+       (8, 'BookEight', 'AuthorEight', '978-3-16-148410-7', 39.99, false),
+       (9, 'BookNine', 'AuthorNine', '978-3-16-148410-8', 39.99, false),
+       (10, 'BookTen', 'AuthorTen', '978-3-16-148410-9', 39.99, false),
+       (11, 'BookEleven', 'AuthorEleven', '978-3-16-148411-0', 39.99, false),
+       (12, 'BookTwelve', 'AuthorTwelve', '978-3-16-148411-1', 39.99, false);
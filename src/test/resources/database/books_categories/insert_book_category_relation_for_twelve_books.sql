@@ -0,0 +1,9 @@
+INSERT INTO books_categories (book_id, category_id)
+VALUES (1, 1), (1, 2),
+       (2, 2), (2, 3),
+       (3, 3), (3, 1),
+       (4, 1), (5, 2),
+       (6, 3), (7, 1),
+       (8, 2), (9, 3),
+       (10, 1), (11, 2),
+       (12, 3);
@@ -0,0 +1,4 @@
+INSERT INTO cart_items (id, shopping_cart_id, book_id, quantity)
+VALUES (1, 3, 1, 1),
+       (2, 3, 2, 2),
+       (3, 3, 3, 3);
\ No newline at end of file
@@ -9,5 +9,6 @@ TRUNCATE TABLE categories;
 TRUNCATE TABLE orders;
 TRUNCATE TABLE users_roles;
 TRUNCATE TABLE users;
+TRUNCATE TABLE cache_invalidation_events;
 
 SET REFERENTIAL_INTEGRITY TRUE;
\ No newline at end of file